@@ -180,7 +180,8 @@ public abstract class Actor implements Startable, Stoppable, Relocatable, TestSt
    */
   protected Actor() {
     final Environment maybeEnvironment = ActorFactory.threadLocalEnvironment.get();
-    this.lifeCycle = new LifeCycle(maybeEnvironment != null ? maybeEnvironment : new TestEnvironment(), new Evictable(this));
+    final Environment environment = maybeEnvironment != null ? maybeEnvironment : new TestEnvironment();
+    this.lifeCycle = new LifeCycle(environment, new Evictable(this, environment));
     ActorFactory.threadLocalEnvironment.set(null);
     this.returns = new ResultReturns();
   }
@@ -311,7 +312,7 @@ public abstract class Actor implements Startable, Stoppable, Relocatable, TestSt
    * @return Logger
    */
   protected Logger logger() {
-    return lifeCycle.environment.logger;
+    return lifeCycle.environment.logger();
   }
 
   /**
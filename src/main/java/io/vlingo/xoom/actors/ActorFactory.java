@@ -7,11 +7,25 @@
 
 package io.vlingo.xoom.actors;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ActorFactory {
   static final ThreadLocal<Environment> threadLocalEnvironment = new ThreadLocal<Environment>();
 
+  private static final ClassValue<Map<ConstructorKey, ResolvedConstructor>> resolvedConstructors =
+          new ClassValue<Map<ConstructorKey, ResolvedConstructor>>() {
+            @Override
+            protected Map<ConstructorKey, ResolvedConstructor> computeValue(final Class<?> type) {
+              return new ConcurrentHashMap<>();
+            }
+          };
+
   @SuppressWarnings("unchecked")
   public static Class<? extends Actor> actorClassWithProtocol(final String actorClassname, final Class<?> protocolClass) {
     try {
@@ -61,7 +75,7 @@ public class ActorFactory {
                     parent,
                     mailbox,
                     supervisor,
-                    ActorLoggerAdapter.from(definition.type(), address, logger));
+                    logger);
 
     threadLocalEnvironment.set(environment);
 
@@ -75,11 +89,18 @@ public class ActorFactory {
       actor = actorClass.getDeclaredConstructor().newInstance();
       actor.lifeCycle.sendStart(actor);
     } else {
-      for (final Constructor<?> ctor : definition.type().getConstructors()) {
-        if (ctor.getParameterCount() == definition.internalParameters().size()) {
-          actor = start(ctor, definition, address, logger);
-          if (actor != null) {
-            break;
+      final ConstructorKey key = ConstructorKey.of(definition.internalParameters().toArray());
+      final ResolvedConstructor resolved = key == null ? null : resolvedConstructors.get(definition.type()).get(key);
+
+      if (resolved != null) {
+        actor = start(resolved, definition, address, logger);
+      } else {
+        for (final Constructor<?> ctor : definition.type().getConstructors()) {
+          if (ctor.getParameterCount() == definition.internalParameters().size()) {
+            actor = start(ctor, key, definition, address, logger);
+            if (actor != null) {
+              break;
+            }
           }
         }
       }
@@ -98,6 +119,11 @@ public class ActorFactory {
 
   static Mailbox actorMailbox(final Stage stage, final Address address, final Definition definition, MailboxWrapper wrapper) {
     final String mailboxName = stage.world().mailboxNameFrom(definition.mailboxName());
+
+    return actorMailbox(stage, address, mailboxName, wrapper);
+  }
+
+  static Mailbox actorMailbox(final Stage stage, final Address address, final String mailboxName, MailboxWrapper wrapper) {
     final Mailbox mailbox = stage.world().assignMailbox(mailboxName, address.hashCode());
 
     return wrapper.wrap(address, mailbox);
@@ -107,8 +133,28 @@ public class ActorFactory {
     return actorMailbox(stage, address, definition, MailboxWrapper.Identity);
   }
 
+  private static Actor start(
+          final ResolvedConstructor resolved,
+          final Definition definition,
+          final Address address,
+          final Logger logger) throws Exception {
+
+    final Actor actor;
+
+    try {
+      actor = resolved.instantiate(definition.internalParameters().toArray());
+    } catch (Throwable t) {
+      throw failed(t, address, logger);
+    }
+
+    actor.lifeCycle.sendStart(actor);
+
+    return actor;
+  }
+
   private static Actor start(
           final Constructor<?> ctor,
+          final ConstructorKey key,
           final Definition definition,
           final Address address,
           final Logger logger) throws Exception {
@@ -124,6 +170,7 @@ public class ActorFactory {
         }
         actor = (Actor) ctor.newInstance(args);
         actor.lifeCycle.sendStart(actor);
+        cache(key, ctor, times == 2);
         cause = null;
         return actor;
       } catch (Throwable t) {
@@ -135,22 +182,50 @@ public class ActorFactory {
     }
 
     if (cause != null) {
-      logger.error("ActorFactory: failed actor creation. "
-              + "This is sometimes cause be the constructor parameter types not matching "
-              + "the types in the Definition.parameters(). Often it is caused by a "
-              + "failure in the actor constructor. We have attempted to uncover "
-              + "the root cause here, but that may not be available in some cases.\n"
-              + "The root cause may be: " + cause + "\n"
-              + "See stacktrace for more information. We strongly recommend reviewing your "
-              + "constructor for possible failures in dependencies that it creates.",
-              cause);
-
-      throw new InstantiationException("ActorFactory failed actor creation for: " + address);
+      throw failed(cause, address, logger);
     }
 
     return actor;
   }
 
+  private static void cache(final ConstructorKey key, final Constructor<?> ctor, final boolean unfolded) {
+    if (key == null) {
+      return;
+    }
+
+    final Map<ConstructorKey, ResolvedConstructor> resolved = resolvedConstructors.get(ctor.getDeclaringClass());
+
+    if (resolved.containsKey(key)) {
+      return;
+    }
+
+    try {
+      final MethodHandle handle =
+              MethodHandles.lookup()
+                .unreflectConstructor(ctor)
+                .asSpreader(Object[].class, ctor.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+
+      resolved.putIfAbsent(key, new ResolvedConstructor(handle, unfolded));
+    } catch (IllegalAccessException e) {
+      // not accessible through a MethodHandle; keep using reflection for this type
+    }
+  }
+
+  private static InstantiationException failed(final Throwable cause, final Address address, final Logger logger) {
+    logger.error("ActorFactory: failed actor creation. "
+            + "This is sometimes cause be the constructor parameter types not matching "
+            + "the types in the Definition.parameters(). Often it is caused by a "
+            + "failure in the actor constructor. We have attempted to uncover "
+            + "the root cause here, but that may not be available in some cases.\n"
+            + "The root cause may be: " + cause + "\n"
+            + "See stacktrace for more information. We strongly recommend reviewing your "
+            + "constructor for possible failures in dependencies that it creates.",
+            cause);
+
+    return new InstantiationException("ActorFactory failed actor creation for: " + address);
+  }
+
   private static Object[] unfold(final Object[] args) {
     final Object[] unfolded = new Object[args.length];
     for (int idx = 0; idx < args.length; ++idx) {
@@ -169,4 +244,70 @@ public class ActorFactory {
     MailboxWrapper Identity = (a, m) -> m;
     Mailbox wrap(Address address, Mailbox mailbox);
   }
+
+  /**
+   * The runtime types of the constructor arguments of an actor type, which determine
+   * which of its constructors was previously found to match. The resolved constructors
+   * are held by the actor type itself, so that they do not keep its class loader alive.
+   */
+  private static final class ConstructorKey {
+    private final Class<?>[] argumentTypes;
+    private final int hashCode;
+
+    /**
+     * Answers the {@code ConstructorKey} of {@code args}, or null when any of them is
+     * null, since a null argument matches any reference parameter type.
+     * @param args the Object[] constructor arguments
+     * @return ConstructorKey
+     */
+    static ConstructorKey of(final Object[] args) {
+      final Class<?>[] argumentTypes = new Class<?>[args.length];
+      for (int idx = 0; idx < args.length; ++idx) {
+        if (args[idx] == null) {
+          return null;
+        }
+        argumentTypes[idx] = args[idx].getClass();
+      }
+      return new ConstructorKey(argumentTypes);
+    }
+
+    private ConstructorKey(final Class<?>[] argumentTypes) {
+      this.argumentTypes = argumentTypes;
+      this.hashCode = Arrays.hashCode(argumentTypes);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (other == null || other.getClass() != ConstructorKey.class) {
+        return false;
+      }
+
+      return Arrays.equals(argumentTypes, ((ConstructorKey) other).argumentTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  /**
+   * A constructor that has already succeeded for a given {@code ConstructorKey},
+   * including whether or not its arguments had to be unfolded.
+   */
+  private static final class ResolvedConstructor {
+    private final MethodHandle handle;
+    private final boolean unfold;
+
+    ResolvedConstructor(final MethodHandle handle, final boolean unfold) {
+      this.handle = handle;
+      this.unfold = unfold;
+    }
+
+    Actor instantiate(final Object[] args) throws Throwable {
+      final Object[] actualArgs = unfold ? unfold(args) : args;
+      final Object actor = handle.invokeExact(actualArgs);
+      return (Actor) actor;
+    }
+  }
 }
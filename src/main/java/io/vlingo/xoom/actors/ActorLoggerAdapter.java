@@ -10,19 +10,22 @@ package io.vlingo.xoom.actors;
 import io.vlingo.xoom.actors.logging.LogEvent;
 
 public class ActorLoggerAdapter implements Logger {
+  private final CoarseClock clock;
   private final Logger logger;
   private final Address sourceActorAddress;
   private final Class<?> sourceActorType;
 
   public static ActorLoggerAdapter from(final Class<?> sourceActorType, final Logger logger) {
-    return new ActorLoggerAdapter(sourceActorType, null, logger);
+    return new ActorLoggerAdapter(sourceActorType, null, logger, null);
   }
 
-  static ActorLoggerAdapter from(final Class<? extends Actor> sourceActorType, final Address sourceActorAddress, final Logger logger) {
-    return new ActorLoggerAdapter(sourceActorType, sourceActorAddress, logger);
+  static ActorLoggerAdapter from(final Class<? extends Actor> sourceActorType, final Address sourceActorAddress, final Logger logger, final CoarseClock clock) {
+    return new ActorLoggerAdapter(sourceActorType, sourceActorAddress, logger, clock);
   }
 
-  private ActorLoggerAdapter(final Class<?> sourceActorType, final Address sourceActorAddress, final Logger logger) {
+  private ActorLoggerAdapter(final Class<?> sourceActorType, final Address sourceActorAddress, final Logger logger, final CoarseClock clock) {
+    // events are stamped by the coarse clock only when one is configured
+    this.clock = clock != null && clock.resolutionMillis() > 0 ? clock : null;
     this.logger = logger;
     this.sourceActorAddress = sourceActorAddress;
     this.sourceActorType = sourceActorType;
@@ -45,91 +48,91 @@ public class ActorLoggerAdapter implements Logger {
 
   @Override
   public void trace(final String message) {
-    final LogEvent logEvent = new LogEvent.Builder(sourceActorType, message).withSourceActorAddress(this.sourceActorAddress).build();
+    final LogEvent logEvent = eventOf(message).withSourceActorAddress(this.sourceActorAddress).build();
     trace(logEvent);
   }
 
   @Override
   public void trace(final String message, final Object... args) {
-    final LogEvent logEvent = new LogEvent.Builder(sourceActorType, message).withSourceActorAddress(this.sourceActorAddress).withArgs(args).build();
+    final LogEvent logEvent = eventOf(message).withSourceActorAddress(this.sourceActorAddress).withArgs(args).build();
     trace(logEvent);
   }
 
   @Override
   public void trace(final String message, final Throwable throwable) {
-    final LogEvent logEvent = new LogEvent.Builder(sourceActorType, message).withSourceActorAddress(this.sourceActorAddress).withThrowable(throwable).build();
+    final LogEvent logEvent = eventOf(message).withSourceActorAddress(this.sourceActorAddress).withThrowable(throwable).build();
     trace(logEvent);
   }
 
   @Override
   public void debug(final String message) {
-    final LogEvent logEvent = new LogEvent.Builder(sourceActorType, message).withSourceActorAddress(this.sourceActorAddress).build();
+    final LogEvent logEvent = eventOf(message).withSourceActorAddress(this.sourceActorAddress).build();
     debug(logEvent);
   }
 
   @Override
   public void debug(final String message, final Object... args) {
-    final LogEvent logEvent = new LogEvent.Builder(sourceActorType, message).withSourceActorAddress(this.sourceActorAddress).withArgs(args).build();
+    final LogEvent logEvent = eventOf(message).withSourceActorAddress(this.sourceActorAddress).withArgs(args).build();
     debug(logEvent);
   }
 
   @Override
   public void debug(final String message, final Throwable throwable) {
-    final LogEvent logEvent = new LogEvent.Builder(sourceActorType, message).withSourceActorAddress(this.sourceActorAddress).withThrowable(throwable).build();
+    final LogEvent logEvent = eventOf(message).withSourceActorAddress(this.sourceActorAddress).withThrowable(throwable).build();
     debug(logEvent);
   }
 
   @Override
   public void info(final String message) {
-    final LogEvent logEvent = new LogEvent.Builder(sourceActorType, message).withSourceActorAddress(this.sourceActorAddress).build();
+    final LogEvent logEvent = eventOf(message).withSourceActorAddress(this.sourceActorAddress).build();
     info(logEvent);
   }
 
   @Override
   public void info(final String message, final Object... args) {
-    final LogEvent logEvent = new LogEvent.Builder(sourceActorType, message).withSourceActorAddress(this.sourceActorAddress).withArgs(args).build();
+    final LogEvent logEvent = eventOf(message).withSourceActorAddress(this.sourceActorAddress).withArgs(args).build();
     info(logEvent);
   }
 
   @Override
   public void info(final String message, final Throwable throwable) {
-    final LogEvent logEvent = new LogEvent.Builder(sourceActorType, message).withSourceActorAddress(this.sourceActorAddress).withThrowable(throwable).build();
+    final LogEvent logEvent = eventOf(message).withSourceActorAddress(this.sourceActorAddress).withThrowable(throwable).build();
     info(logEvent);
   }
 
   @Override
   public void warn(final String message) {
-    final LogEvent logEvent = new LogEvent.Builder(sourceActorType, message).withSourceActorAddress(this.sourceActorAddress).build();
+    final LogEvent logEvent = eventOf(message).withSourceActorAddress(this.sourceActorAddress).build();
     warn(logEvent);
   }
 
   @Override
   public void warn(final String message, final Object... args) {
-    final LogEvent logEvent = new LogEvent.Builder(sourceActorType, message).withSourceActorAddress(this.sourceActorAddress).withArgs(args).build();
+    final LogEvent logEvent = eventOf(message).withSourceActorAddress(this.sourceActorAddress).withArgs(args).build();
     warn(logEvent);
   }
 
   @Override
   public void warn(final String message, final Throwable throwable) {
-    final LogEvent logEvent = new LogEvent.Builder(sourceActorType, message).withSourceActorAddress(this.sourceActorAddress).withThrowable(throwable).build();
+    final LogEvent logEvent = eventOf(message).withSourceActorAddress(this.sourceActorAddress).withThrowable(throwable).build();
     warn(logEvent);
   }
 
   @Override
   public void error(final String message) {
-    final LogEvent logEvent = new LogEvent.Builder(sourceActorType, message).withSourceActorAddress(this.sourceActorAddress).build();
+    final LogEvent logEvent = eventOf(message).withSourceActorAddress(this.sourceActorAddress).build();
     error(logEvent);
   }
 
   @Override
   public void error(final String message, final Object... args) {
-    final LogEvent logEvent = new LogEvent.Builder(sourceActorType, message).withSourceActorAddress(this.sourceActorAddress).withArgs(args).build();
+    final LogEvent logEvent = eventOf(message).withSourceActorAddress(this.sourceActorAddress).withArgs(args).build();
     error(logEvent);
   }
 
   @Override
   public void error(final String message, final Throwable throwable) {
-    final LogEvent logEvent = new LogEvent.Builder(sourceActorType, message).withSourceActorAddress(this.sourceActorAddress).withThrowable(throwable).build();
+    final LogEvent logEvent = eventOf(message).withSourceActorAddress(this.sourceActorAddress).withThrowable(throwable).build();
     error(logEvent);
   }
 
@@ -157,4 +160,11 @@ public class ActorLoggerAdapter implements Logger {
   public void error(final LogEvent logEvent) {
     this.logger.error(logEvent);
   }
+
+  private LogEvent.Builder eventOf(final String message) {
+    if (clock == null) {
+      return new LogEvent.Builder(sourceActorType, message);
+    }
+    return new LogEvent.Builder(sourceActorType, message, Thread.currentThread().getName(), clock.instant());
+  }
 }
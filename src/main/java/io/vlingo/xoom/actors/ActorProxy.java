@@ -13,6 +13,7 @@ import java.lang.reflect.Constructor;
 import java.util.UUID;
 import java.util.concurrent.locks.Lock;
 
+import io.vlingo.xoom.actors.ProxyGenerator.Delegation;
 import io.vlingo.xoom.actors.ProxyGenerator.Result;
 import io.vlingo.xoom.common.compiler.DynaClassLoader;
 import io.vlingo.xoom.common.compiler.DynaCompiler;
@@ -38,7 +39,7 @@ public final class ActorProxy {
       newProxy = tryGenerateCreate(protocol, actor, mailbox, proxyClassname);
     } finally {
       if (newProxy != null) {
-        actor.lifeCycle.environment.cacheProxy(newProxy);
+        actor.lifeCycle.environment.cacheProxy(protocol, newProxy);
       }
       lock.unlock();
     }
@@ -46,11 +47,66 @@ public final class ActorProxy {
     return newProxy;
   }
 
+  /**
+   * Answers a new proxy of the already resolved {@code proxyClass} for {@code actor}.
+   * This avoids the proxy class lookup when many actors of the same protocol are created.
+   * @param protocol the {@code Class<T>} protocol of the proxy
+   * @param proxyClass the {@code Class<?>} of a proxy previously answered by {@code createFor()}
+   * @param actor the Actor instance that backs the proxy
+   * @param mailbox the Mailbox instance of the actor
+   * @param <T> the protocol type
+   * @return T
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T createWith(final Class<T> protocol, final Class<?> proxyClass, final Actor actor, final Mailbox mailbox) {
+    try {
+      final T newProxy = (T) tryCreateWithProxyClass(proxyClass, actor, mailbox);
+      actor.lifeCycle.environment.cacheProxy(protocol, newProxy);
+      return newProxy;
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Actor proxy " + proxyClass.getName() + " not created because: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Answers a new instance of the {@code delegation} class of {@code protocol} for {@code delegate},
+   * generating the class if it does not yet exist. Each message sent through the instance is a
+   * direct call on the proxy of the {@code Actor} answered by {@code delegate}. (INTERNAL ONLY)
+   * @param protocol the {@code Class<T>} protocol of the instance
+   * @param delegation the Delegation of the generated class
+   * @param delegate the Object delegate of the instance, of the delegator type of the delegation
+   * @param world the World of the Actors
+   * @param <T> the protocol type
+   * @return T
+   */
+  static <T> T createDelegatingFor(final Class<T> protocol, final Delegation delegation, final Object delegate, final World world) {
+    final String proxyClassname = fullyQualifiedClassnameFor(protocol, delegation.postfix);
+    Lock lock = ArgumentLock.acquire(protocol);
+    lock.lock();
+    try {
+      Class<?> proxyClass;
+      try {
+        proxyClass = Class.forName(proxyClassname, true, classLoaderFor(world));
+      } catch (ClassNotFoundException e) {
+        proxyClass = tryGenerateDelegating(protocol, delegation, world, proxyClassname);
+      }
+      return protocol.cast(proxyClass.getConstructor(delegation.delegator).newInstance(delegate));
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Actor proxy " + protocol.getName() + delegation.postfix + " not created because: " + e.getMessage(), e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
   private static DynaClassLoader classLoaderFor(final Actor actor) {
-    DynaClassLoader classLoader = actor.lifeCycle.environment.stage.world().classLoader();
+    return classLoaderFor(actor.lifeCycle.environment.stage.world());
+  }
+
+  private static DynaClassLoader classLoaderFor(final World world) {
+    DynaClassLoader classLoader = world.classLoader();
     if (classLoader == null) {
       classLoader = new DynaClassLoader(ActorProxy.class.getClassLoader());
-      actor.stage().world().classLoader(classLoader);
+      world.classLoader(classLoader);
     }
     return classLoader;
   }
@@ -119,6 +175,34 @@ public final class ActorProxy {
     }
   }
 
+  private static Class<?> tryGenerateDelegating(
+          final Class<?> protocol,
+          final Delegation delegation,
+          final World world,
+          final String targetClassname)
+  throws Exception {
+    final DynaClassLoader classLoader = classLoaderFor(world);
+    try (final ProxyGenerator generator = isGeneratingForMain(world) ?
+            ProxyGenerator.forMain(classLoader, true, world.defaultLogger()) :
+            ProxyGenerator.forTest(classLoader, true, world.defaultLogger())) {
+
+      final Result result;
+      switch (delegation) {
+      case Balancing:
+        result = generator.generateBalancingFor(protocol.getName());
+        break;
+      case Routing:
+        result = generator.generateRoutingFor(protocol.getName());
+        break;
+      default:
+        result = generator.generateVirtualFor(protocol.getName());
+        break;
+      }
+      final Input input = new Input(protocol, targetClassname, result.source, result.sourceFile, classLoader, generator.type(), true);
+      return new DynaCompiler().compile(input);
+    }
+  }
+
   /*
    * FOR INTERNAL USE ONLY.
    */
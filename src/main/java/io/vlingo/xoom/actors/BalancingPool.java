@@ -0,0 +1,255 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vlingo.xoom.actors.ProxyGenerator.Delegation;
+import io.vlingo.xoom.actors.Stage.ActorProtocolActor;
+import io.vlingo.xoom.common.Completes;
+import io.vlingo.xoom.common.Scheduler;
+import io.vlingo.xoom.common.SerializableConsumer;
+
+/**
+ * A pool of worker actors of the same {@code Definition} that take the messages sent
+ * through its {@code P} protocol {@link #proxy()} from one shared work queue. Each message
+ * is enqueued on the sender's thread and is delivered to a worker only when that worker
+ * is idle, so each worker has at most one message in its mailbox at a time. Unlike the
+ * routers, which fix the routee of a message when it is sent, a slow message does not
+ * hold the messages behind it, which are taken by whichever worker is idle next.
+ * <p>
+ * The methods of the protocol must answer either {@code void} or {@code Completes<T>}.
+ * The messages of the pool are not ordered among its workers. Stopped workers take no
+ * more messages, and once all workers are stopped each message is a dead letter whose
+ * {@code Completes<T>}, if any, fails. A worker is known to be stopped when it is next
+ * found idle or finishes its message, so one that is stopped while a message is on its
+ * way to it loses that message, as any stopped actor loses its pending messages.
+ */
+public final class BalancingPool<P> {
+  private final ConcurrentLinkedQueue<Worker> idle;
+  private final AtomicInteger live;
+  private final Class<P> protocol;
+  private final P proxy;
+  private final Scheduler scheduler;
+  private final ConcurrentLinkedQueue<Work> work;
+  private final List<Worker> workers;
+
+  BalancingPool(final Class<P> protocol, final List<ActorProtocolActor<P>> workers, final World world) {
+    this.protocol = protocol;
+    this.idle = new ConcurrentLinkedQueue<>();
+    this.work = new ConcurrentLinkedQueue<>();
+    this.workers = new ArrayList<>(workers.size());
+    this.live = new AtomicInteger(workers.size());
+    this.scheduler = workers.get(0).actor().scheduler();
+
+    for (final ActorProtocolActor<P> worker : workers) {
+      final Worker idleWorker = new Worker(worker.actor(), worker.protocolActor());
+      this.workers.add(idleWorker);
+      idleWorker.enqueue();
+    }
+
+    this.proxy = ActorProxy.createDelegatingFor(protocol, Delegation.Balancing, this, world);
+  }
+
+  /**
+   * Answers the {@code P} protocol through which messages are sent to my workers.
+   * @return P
+   */
+  public P proxy() {
+    return proxy;
+  }
+
+  /**
+   * Answers the {@code P} protocols of my workers, such as to stop them.
+   * @return {@code List<P>}
+   */
+  public List<P> workers() {
+    final List<P> protocolActors = new ArrayList<>(workers.size());
+    for (final Worker worker : workers) {
+      protocolActors.add(worker.protocolActor);
+    }
+    return Collections.unmodifiableList(protocolActors);
+  }
+
+  /**
+   * Answers the {@code Completes<?>} of the message sent by {@code consumer}, or null when
+   * it answers void, after enqueuing it for my next idle worker. (INTERNAL ONLY)
+   * @param consumer the {@code SerializableConsumer<?>} that sends the message to a worker
+   * @param representation the String representation of the message
+   * @param answers the boolean indicating whether the message answers a {@code Completes<T>}
+   * @return {@code Completes<?>}
+   */
+  @SuppressWarnings("unchecked")
+  public Completes<?> dispatch(final SerializableConsumer<?> consumer, final String representation, final boolean answers) {
+    final Completes<Object> completes = answers ? Completes.using(scheduler) : null;
+
+    work.offer(new Work((SerializableConsumer<P>) consumer, representation, completes));
+
+    Worker worker;
+    while ((worker = idle.poll()) != null) {
+      worker.dequeued();
+      if (worker.actor.isStopped()) {
+        drop(worker);
+      } else if (worker.claim()) {
+        drive(worker);
+        return completes;
+      }
+    }
+
+    if (live.get() == 0) {
+      rejectWork();
+    }
+
+    return completes;
+  }
+
+  /**
+   * Answers the number of entries in my queue of idle workers. (INTERNAL ONLY)
+   * @return int
+   */
+  int idleCount() {
+    return idle.size();
+  }
+
+  @Override
+  public String toString() {
+    return "BalancingPool[protocol=" + protocol.getSimpleName() + " workers=" + workers.size() + "]";
+  }
+
+  /**
+   * Drops the stopped {@code worker}, counting it only once, and rejects the work left
+   * behind once it was the last of my live workers.
+   * @param worker the Worker that is stopped
+   */
+  private void drop(final Worker worker) {
+    if (worker.drop() && live.decrementAndGet() == 0) {
+      rejectWork();
+    }
+  }
+
+  /**
+   * Delivers the next work to {@code worker}, which I have claimed, or else makes it idle.
+   * A worker that finds work enqueued after it became idle claims itself again, such that
+   * no work is left behind while a worker is idle. A stopped worker is dropped.
+   * @param worker the Worker to deliver to
+   */
+  private void drive(final Worker worker) {
+    while (!worker.actor.isStopped()) {
+      final Work next = work.poll();
+
+      if (next != null) {
+        worker.deliver(next);
+        return;
+      }
+
+      worker.release();
+
+      if (work.isEmpty() || !worker.claim()) {
+        return;
+      }
+    }
+
+    drop(worker);
+  }
+
+  /**
+   * Rejects the enqueued work, for which no workers are left, as dead letters.
+   */
+  private void rejectWork() {
+    final Actor stopped = workers.get(0).actor;
+
+    Work next;
+    while ((next = work.poll()) != null) {
+      stopped.deadLetters().failedDelivery(new DeadLetter(stopped, next.representation));
+      if (next.completes != null) {
+        next.completes.failed(new IllegalStateException("There are no workers for: " + protocol.getSimpleName()));
+      }
+    }
+  }
+
+  private final class Work {
+    final Completes<Object> completes;
+    final SerializableConsumer<P> consumer;
+    final String representation;
+
+    Work(final SerializableConsumer<P> consumer, final String representation, final Completes<Object> completes) {
+      this.consumer = consumer;
+      this.representation = representation;
+      this.completes = completes;
+    }
+  }
+
+  private final class Worker {
+    final Actor actor;
+    final AtomicBoolean dropped;
+    final AtomicBoolean enqueued;
+    final AtomicBoolean idle;
+    final Mailbox mailbox;
+    final P protocolActor;
+
+    Worker(final Actor actor, final P protocolActor) {
+      this.actor = actor;
+      this.protocolActor = protocolActor;
+      this.mailbox = actor.lifeCycle.environment.mailbox;
+      this.dropped = new AtomicBoolean(false);
+      this.enqueued = new AtomicBoolean(false);
+      this.idle = new AtomicBoolean(true);
+    }
+
+    boolean claim() {
+      return idle.compareAndSet(true, false);
+    }
+
+    /**
+     * Answers whether I was dropped now rather than before.
+     * @return boolean
+     */
+    boolean drop() {
+      return dropped.compareAndSet(false, true);
+    }
+
+    void dequeued() {
+      enqueued.set(false);
+    }
+
+    void enqueue() {
+      // at most one entry of mine is in the idle queue, however often I become idle
+      if (enqueued.compareAndSet(false, true)) {
+        BalancingPool.this.idle.offer(this);
+      }
+    }
+
+    void release() {
+      idle.set(true);
+      enqueue();
+    }
+
+    void deliver(final Work next) {
+      final SerializableConsumer<P> consumer = (actor) -> perform(next, actor);
+      final Returns<?> returns = next.completes == null ? null : Returns.value(next.completes);
+      if (mailbox.isPreallocated()) {
+        mailbox.send(actor, protocol, consumer, returns, next.representation);
+      } else {
+        mailbox.send(new LocalMessage<P>(actor, protocol, consumer, returns, next.representation));
+      }
+    }
+
+    private void perform(final Work next, final P actor) {
+      try {
+        next.consumer.accept(actor);
+      } finally {
+        drive(this);
+      }
+    }
+  }
+}
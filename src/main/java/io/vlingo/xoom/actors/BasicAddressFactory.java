@@ -9,11 +9,19 @@ package io.vlingo.xoom.actors;
 
 import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Answers {@code BasicAddress} instances of sequential {@code long} ids. With an
+ * {@code idBlockSize} greater than one, each thread takes its ids from its own block
+ * of that many, so that threads contend for the shared sequence only once per block.
+ * Ids are then unique but not in order of allocation across threads.
+ */
 final class BasicAddressFactory implements AddressFactory {
   final static Address None = new BasicAddress(0, "(none)");
 
   private final AtomicLong highId;
   private final AtomicLong nextId;
+  private final int idBlockSize;
+  private final ThreadLocal<IdBlock> idBlocks;
 
   @Override
   public <T> Address findableBy(final T id) {
@@ -42,17 +50,17 @@ final class BasicAddressFactory implements AddressFactory {
 
   @Override
   public Address unique() {
-    return new BasicAddress(nextId.getAndIncrement());
+    return new BasicAddress(nextId());
   }
 
   @Override
   public Address uniquePrefixedWith(final String prefixedWith) {
-    return new BasicAddress(nextId.getAndIncrement(), prefixedWith, true);
+    return new BasicAddress(nextId(), prefixedWith, true);
   }
 
   @Override
   public Address uniqueWith(final String name) {
-    return new BasicAddress(nextId.getAndIncrement(), name);
+    return new BasicAddress(nextId(), name);
   }
 
   @Override
@@ -72,11 +80,37 @@ final class BasicAddressFactory implements AddressFactory {
 
   @Override
   public String toString() {
-    return "BasicAddressFactory[highId=" + highId.get() + ", nextId=" + nextId.get() + "]";
+    return "BasicAddressFactory[highId=" + highId.get() + ", nextId=" + nextId.get() + ", idBlockSize=" + idBlockSize + "]";
   }
 
-  BasicAddressFactory() {
+  BasicAddressFactory(final int idBlockSize) {
+    if (idBlockSize < 1) {
+      throw new IllegalArgumentException("Address id block size must be greater than zero.");
+    }
     this.highId = new AtomicLong(World.HIGH_ROOT_ID);
     this.nextId = new AtomicLong(1);
+    this.idBlockSize = idBlockSize;
+    this.idBlocks = idBlockSize > 1 ? ThreadLocal.withInitial(IdBlock::new) : null;
+  }
+
+  private long nextId() {
+    return idBlocks == null ? nextId.getAndIncrement() : idBlocks.get().next();
+  }
+
+  private final class IdBlock {
+    private long next;
+    private long limit;
+
+    long next() {
+      if (next == limit) {
+        next = nextId.getAndAdd(idBlockSize);
+        limit = next + idBlockSize;
+        // never reach into the ids reserved from the top by withHighId()
+        if (limit > highId.get()) {
+          throw new IllegalStateException("Cannot allocate unique address id.");
+        }
+      }
+      return next++;
+    }
   }
 }
@@ -0,0 +1,289 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import io.vlingo.xoom.common.Cancellable;
+import io.vlingo.xoom.common.Scheduled;
+import io.vlingo.xoom.common.Scheduler;
+
+/**
+ * Schedules repeating {@code Scheduled} subscriptions such that all of those of the same
+ * interval and phase share a single repeating timer of the underlying {@code Scheduler}.
+ * Each subscription is signaled when the wall clock milliseconds less the phase are a
+ * multiple of the interval. When the shared timer fires, its subscriptions are signaled
+ * in batches of {@code batchSize}, each following batch being scheduled to run at once
+ * such that a large fan-out does not hold the timer thread from other timers. A firing
+ * of the timer while its previous firing is still signaling batches is skipped, so each
+ * subscription is signaled at most once per firing, and none are signaled concurrently.
+ * A subscription that fails is logged.
+ * <p>
+ * This is meant for the many actors that each tick at the same interval, where one timer
+ * and one wake-up serve all of them instead of one each.
+ */
+public final class CoalescingScheduler {
+  public static final int DefaultBatchSize = 1_000;
+
+  private final int batchSize;
+  private final Supplier<Logger> logger;
+  private final Scheduler scheduler;
+  private final ConcurrentHashMap<Cadence,Timer> timers;
+
+  /**
+   * Constructs my default state over {@code scheduler}, signaling {@code batchSize} subscriptions at a time.
+   * @param scheduler the Scheduler of the shared timers
+   * @param batchSize the int number of subscriptions signaled at a time, which must be greater than zero
+   */
+  public CoalescingScheduler(final Scheduler scheduler, final int batchSize) {
+    this(scheduler, batchSize, Logger::basicLogger);
+  }
+
+  /**
+   * Constructs my default state over {@code scheduler}, signaling {@code batchSize} subscriptions at a time,
+   * and logging the failures of subscriptions to the {@code Logger} answered by {@code logger}.
+   * @param scheduler the Scheduler of the shared timers
+   * @param batchSize the int number of subscriptions signaled at a time, which must be greater than zero
+   * @param logger the {@code Supplier<Logger>} of the Logger of my failures, such as of the {@code World}
+   */
+  public CoalescingScheduler(final Scheduler scheduler, final int batchSize, final Supplier<Logger> logger) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be greater than zero.");
+    }
+    this.scheduler = scheduler;
+    this.batchSize = batchSize;
+    this.logger = logger;
+    this.timers = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Answers the {@code Cancellable} subscription of {@code scheduled} to be signaled with {@code data}
+   * every {@code interval} milliseconds, whenever the wall clock is a multiple of {@code interval}.
+   * @param scheduled the {@code Scheduled<T>} to signal
+   * @param data the T data to signal with
+   * @param interval the long milliseconds between signals
+   * @param <T> the type of data
+   * @return Cancellable
+   */
+  public <T> Cancellable schedule(final Scheduled<T> scheduled, final T data, final long interval) {
+    return schedule(scheduled, data, 0, interval);
+  }
+
+  /**
+   * Answers the {@code Cancellable} subscription of {@code scheduled} to be signaled with {@code data}
+   * every {@code interval} milliseconds, whenever the wall clock less {@code phase} is a multiple of
+   * {@code interval}. Subscriptions of the same {@code interval} and {@code phase} share one timer.
+   * @param scheduled the {@code Scheduled<T>} to signal
+   * @param data the T data to signal with
+   * @param phase the long milliseconds offset of the signals within the interval
+   * @param interval the long milliseconds between signals
+   * @param <T> the type of data
+   * @return Cancellable
+   */
+  public <T> Cancellable schedule(final Scheduled<T> scheduled, final T data, final long phase, final long interval) {
+    if (interval <= 0) {
+      throw new IllegalArgumentException("Interval must be greater than zero.");
+    }
+
+    final Cadence cadence = new Cadence(Math.floorMod(phase, interval), interval);
+    final Subscription<T> subscription = new Subscription<>(scheduled, data);
+
+    while (true) {
+      final Timer timer = timerOf(cadence);
+      if (timer.subscribe(subscription)) {
+        return subscription;
+      }
+      // the timer closed when its last subscription was cancelled
+      timers.remove(cadence, timer);
+    }
+  }
+
+  /**
+   * Answers the {@code Cancellable} subscription of {@code scheduled} to be signaled with {@code data}
+   * every {@code interval}, in phase with all others of the same {@code interval}.
+   * @param scheduled the {@code Scheduled<T>} to signal
+   * @param data the T data to signal with
+   * @param interval the Duration between signals
+   * @param <T> the type of data
+   * @return Cancellable
+   */
+  public <T> Cancellable schedule(final Scheduled<T> scheduled, final T data, final Duration interval) {
+    return schedule(scheduled, data, 0, interval.toMillis());
+  }
+
+  /**
+   * Answers the number of shared timers currently scheduled. (INTERNAL ONLY)
+   * @return int
+   */
+  int timerCount() {
+    return timers.size();
+  }
+
+  /**
+   * Answers the {@code Timer} of {@code cadence}, scheduling a new one when there is none.
+   * The new Timer is scheduled before it is published, outside of any mapping function,
+   * and the one of a racing caller that lost is cancelled.
+   * @param cadence the Cadence of the Timer
+   * @return Timer
+   */
+  private Timer timerOf(final Cadence cadence) {
+    final Timer existing = timers.get(cadence);
+    if (existing != null) {
+      return existing;
+    }
+
+    final Timer created = new Timer(cadence);
+    created.start();
+
+    final Timer raced = timers.putIfAbsent(cadence, created);
+    if (raced != null) {
+      created.cancel();
+      return raced;
+    }
+
+    return created;
+  }
+
+  private static final class Cadence {
+    final long interval;
+    final long phase;
+
+    Cadence(final long phase, final long interval) {
+      this.phase = phase;
+      this.interval = interval;
+    }
+
+    long millisUntilNext() {
+      final long now = System.currentTimeMillis();
+      return interval - Math.floorMod(now - phase, interval);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Long.hashCode(interval) + Long.hashCode(phase);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (other == null || other.getClass() != getClass()) {
+        return false;
+      }
+      final Cadence otherCadence = (Cadence) other;
+      return interval == otherCadence.interval && phase == otherCadence.phase;
+    }
+  }
+
+  private final class Timer implements Scheduled<Iterator<Subscription<?>>> {
+    private final Cadence cadence;
+    private Cancellable cancellable;
+    private boolean closed;
+    private final AtomicBoolean signaling;
+    private final Set<Subscription<?>> subscriptions;
+
+    Timer(final Cadence cadence) {
+      this.cadence = cadence;
+      this.signaling = new AtomicBoolean(false);
+      this.subscriptions = ConcurrentHashMap.newKeySet();
+    }
+
+    void start() {
+      // before I am published, which makes my cancellable visible to my subscribers
+      this.cancellable = scheduler.schedule(this, null, cadence.millisUntilNext(), cadence.interval);
+    }
+
+    void cancel() {
+      cancellable.cancel();
+    }
+
+    @Override
+    public void intervalSignal(final Scheduled<Iterator<Subscription<?>>> scheduled, final Iterator<Subscription<?>> remaining) {
+      // a null remaining is a firing of the timer, otherwise the continuation of one
+      if (remaining == null && !signaling.compareAndSet(false, true)) {
+        // the batches of the previous firing still reach every subscription
+        return;
+      }
+
+      final Iterator<Subscription<?>> iterator = remaining == null ? subscriptions.iterator() : remaining;
+      boolean continuing = false;
+
+      try {
+        for (int count = 0; count < batchSize && iterator.hasNext(); ++count) {
+          signal(iterator.next());
+        }
+
+        if (iterator.hasNext()) {
+          scheduler.scheduleOnce(this, iterator, 0, 0);
+          continuing = true;
+        }
+      } finally {
+        if (!continuing) {
+          signaling.set(false);
+        }
+      }
+    }
+
+    private void signal(final Subscription<?> subscription) {
+      try {
+        subscription.signal();
+      } catch (Throwable t) {
+        logger.get().error("Coalescing scheduler failed to signal " + subscription.scheduled + " because: " + t.getMessage(), t);
+        // the rest of the batch is signaled after an exception, but an Error ends this firing
+        if (t instanceof Error) {
+          throw (Error) t;
+        }
+      }
+    }
+
+    synchronized boolean subscribe(final Subscription<?> subscription) {
+      if (closed) {
+        return false;
+      }
+      subscription.timer = this;
+      subscriptions.add(subscription);
+      return true;
+    }
+
+    synchronized boolean unsubscribe(final Subscription<?> subscription) {
+      if (!subscriptions.remove(subscription)) {
+        return false;
+      }
+      if (subscriptions.isEmpty()) {
+        closed = true;
+        cancel();
+        timers.remove(cadence, this);
+      }
+      return true;
+    }
+  }
+
+  private static final class Subscription<T> implements Cancellable {
+    private final T data;
+    private final Scheduled<T> scheduled;
+    private volatile Timer timer;
+
+    Subscription(final Scheduled<T> scheduled, final T data) {
+      this.scheduled = scheduled;
+      this.data = data;
+    }
+
+    @Override
+    public boolean cancel() {
+      final Timer current = timer;
+      return current != null && current.unsubscribe(this);
+    }
+
+    void signal() {
+      scheduled.intervalSignal(scheduled, data);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.time.Instant;
+
+/**
+ * A wall clock that is read from a field updated by a background ticker every
+ * {@code resolutionMillis}, rather than from the system on every read. It serves
+ * frequent timestamps, such as those of message delivery, that tolerate being
+ * late by up to the resolution. A resolution of zero, which is the default, reads
+ * the system clock and starts no ticker.
+ * <p>
+ * Each {@code World} starts and stops its own {@code CoarseClock}, which its stages
+ * share. Where there is no {@code World} at hand the {@code system()} clock is used.
+ */
+public final class CoarseClock {
+  public static final long DefaultResolutionMillis = 0L;
+
+  private static final CoarseClock Uncached = new CoarseClock(0L);
+
+  private final long resolutionMillis;
+  private final Thread ticker;
+  private volatile long millis;
+  private volatile boolean running;
+
+  /**
+   * Answers the {@code CoarseClock} that reads the system clock, and which is never stopped.
+   * @return CoarseClock
+   */
+  public static CoarseClock system() {
+    return Uncached;
+  }
+
+  /**
+   * Answers a new running {@code CoarseClock} of {@code resolutionMillis}.
+   * @param resolutionMillis the long milliseconds between updates, or zero to read the system clock
+   * @return CoarseClock
+   */
+  public static CoarseClock start(final long resolutionMillis) {
+    final CoarseClock clock = new CoarseClock(resolutionMillis);
+    if (clock.ticker != null) {
+      clock.ticker.start();
+    }
+    return clock;
+  }
+
+  /**
+   * Answers the current time in milliseconds since the epoch, at most my resolution late.
+   * @return long
+   */
+  public long millis() {
+    return running ? millis : System.currentTimeMillis();
+  }
+
+  /**
+   * Answers the current time as an {@code Instant}, at most my resolution late.
+   * @return Instant
+   */
+  public Instant instant() {
+    return Instant.ofEpochMilli(millis());
+  }
+
+  public long resolutionMillis() {
+    return resolutionMillis;
+  }
+
+  /**
+   * Stops my ticker, after which I read the system clock.
+   */
+  public void stop() {
+    if (ticker != null && running) {
+      running = false;
+      ticker.interrupt();
+    }
+  }
+
+  private CoarseClock(final long resolutionMillis) {
+    this.resolutionMillis = resolutionMillis;
+    this.millis = System.currentTimeMillis();
+    this.running = resolutionMillis > 0;
+    this.ticker = running ? new Thread(this::tick, "xoom-coarse-clock") : null;
+    if (ticker != null) {
+      ticker.setDaemon(true);
+    }
+  }
+
+  private void tick() {
+    while (running) {
+      millis = System.currentTimeMillis();
+      try {
+        Thread.sleep(resolutionMillis);
+      } catch (InterruptedException e) {
+        // stopped
+      }
+    }
+  }
+}
@@ -7,23 +7,14 @@
 
 package io.vlingo.xoom.actors;
 
-import java.util.concurrent.CompletableFuture;
-
 public class CompletesEventuallyActor extends Actor implements CompletesEventually {
   public CompletesEventuallyActor() { }
 
   @Override
-  @SuppressWarnings({ "unchecked", "rawtypes" })
   public void with(final Object outcome) {
     try {
       final PooledCompletes pooled = (PooledCompletes) outcome;
-      if (pooled.clientReturns.isCompletes()) {
-        pooled.clientReturns.asCompletes().with(pooled.outcome());
-      } else if (pooled.clientReturns.isCompletableFuture()) {
-        pooled.clientReturns.asCompletableFuture().complete(pooled.outcome());
-      } else if (pooled.clientReturns.isFuture()) {
-        ((CompletableFuture) pooled.clientReturns.asFuture()).complete(pooled.outcome());
-      }
+      pooled.completeClient();
     } catch (Throwable t) {
       logger().error("The eventually completed outcome failed in the client because: " + t.getMessage(), t);
     }
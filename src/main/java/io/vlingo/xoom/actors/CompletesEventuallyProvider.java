@@ -11,6 +11,18 @@ public interface CompletesEventuallyProvider {
   void close();
   CompletesEventually completesEventually();
   void initializeUsing(final Stage stage);
+
+  /**
+   * Answers whether I select the {@code CompletesEventually} of each outcome by the
+   * {@code Address} of the actor that answered it, such that every actor may be given
+   * to {@code provideCompletesFor(address, clientReturns)} by its own {@code Address}.
+   * Otherwise an actor is pinned to the {@code Address} of the first one I provide.
+   * @return boolean
+   */
+  default boolean isShardedBySender() {
+    return false;
+  }
+
   CompletesEventually provideCompletesFor(final Returns<?> clientReturns);
   CompletesEventually provideCompletesFor(final Address address, final Returns<?> clientReturns);
 }
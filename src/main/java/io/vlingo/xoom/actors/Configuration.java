@@ -43,6 +43,12 @@ public class Configuration {
   private ManyToOneConcurrentArrayQueuePluginConfiguration manyToOneConcurrentArrayQueuePluginConfiguration;
   private SharedRingBufferMailboxPluginConfiguration sharedRingBufferMailboxPluginConfiguration;
   private DirectoryEvictionConfiguration directoryEvictionConfiguration;
+  private DirectoryConfiguration directoryConfiguration;
+  private final Map<String,DirectoryConfiguration> stageDirectoryConfigurations;
+  private long clockResolution;
+  private int addressIdBlockSize;
+  private boolean directCompletion;
+  private long schedulerTick;
 
   private String mainProxyGeneratedClassesPath;
   private String mainProxyGeneratedSourcesPath;
@@ -83,6 +89,43 @@ public class Configuration {
     return addressFactory == null ? addressFactorySupplier.get() : addressFactory;
   }
 
+  /**
+   * Answers myself after setting whether an outcome answered by an {@code Actor} completes
+   * the client's {@code Completes} or {@code Future} directly on the delivering thread,
+   * rather than by a message to a {@code CompletesEventually} actor. Outcomes are still
+   * completed in the order of delivery, but the continuations of a client's {@code Completes}
+   * then run on the thread of the answering {@code Actor}, so they must neither block nor
+   * touch state that is not thread-safe.
+   * @param directCompletion the boolean indicating whether outcomes are completed directly
+   * @return Configuration
+   */
+  public Configuration usingDirectCompletion(final boolean directCompletion) {
+    this.directCompletion = directCompletion;
+    return this;
+  }
+
+  public boolean isDirectCompletion() {
+    return directCompletion;
+  }
+
+  /**
+   * Answers myself after setting the number of ids that each thread reserves at once
+   * from the default {@code AddressFactory}, where one shares a single sequence.
+   * @param addressIdBlockSize the int number of ids reserved by each thread at once
+   * @return Configuration
+   */
+  public Configuration usingAddressIdBlockSize(final int addressIdBlockSize) {
+    if (addressIdBlockSize < 1) {
+      throw new IllegalArgumentException("Address id block size must be greater than zero.");
+    }
+    this.addressIdBlockSize = addressIdBlockSize;
+    return this;
+  }
+
+  public int addressIdBlockSize() {
+    return addressIdBlockSize;
+  }
+
   public String getProperty(final String key) {
     return properties == null
         ? null
@@ -190,6 +233,64 @@ public class Configuration {
     return directoryEvictionConfiguration;
   }
 
+  public Configuration with(final DirectoryConfiguration configuration) {
+    if (configuration.isDefault()) {
+      this.directoryConfiguration = configuration;
+    } else {
+      this.stageDirectoryConfigurations.put(configuration.stageName(), configuration);
+    }
+    return this;
+  }
+
+  public DirectoryConfiguration directoryConfiguration() {
+    return directoryConfiguration;
+  }
+
+  public DirectoryConfiguration directoryConfigurationFor(final String stageName) {
+    final DirectoryConfiguration configuration = stageDirectoryConfigurations.get(stageName);
+    if (configuration != null) {
+      return configuration;
+    }
+    return directoryConfiguration;
+  }
+
+  /**
+   * Answers myself after setting the milliseconds between updates of the {@code World}
+   * {@code CoarseClock}, where zero reads the system clock on every request.
+   * @param clockResolution the long milliseconds resolution of the clock
+   * @return Configuration
+   */
+  public Configuration usingClockResolution(final long clockResolution) {
+    if (clockResolution < 0) {
+      throw new IllegalArgumentException("Clock resolution must not be negative.");
+    }
+    this.clockResolution = clockResolution;
+    return this;
+  }
+
+  public long clockResolution() {
+    return clockResolution;
+  }
+
+  /**
+   * Answers myself after setting the milliseconds between the ticks of the timing wheel
+   * that backs the {@code Scheduler} of each {@code Stage}. With a tick of zero, the default,
+   * each {@code Stage} uses the executor based {@code Scheduler} instead.
+   * @param schedulerTick the long milliseconds tick of the {@code TimingWheelScheduler}, or zero
+   * @return Configuration
+   */
+  public Configuration usingSchedulerTick(final long schedulerTick) {
+    if (schedulerTick < 0) {
+      throw new IllegalArgumentException("Scheduler tick must not be negative.");
+    }
+    this.schedulerTick = schedulerTick;
+    return this;
+  }
+
+  public long schedulerTick() {
+    return schedulerTick;
+  }
+
   public Configuration usingMainProxyGeneratedClassesPath(final String path) {
     mainProxyGeneratedClassesPath = path;
     return this;
@@ -273,6 +374,10 @@ public class Configuration {
 
   private Configuration(final Properties properties, final boolean includeBaseLoad) {
     this.configurationOverrides = new HashMap<>();
+    this.stageDirectoryConfigurations = new HashMap<>();
+    this.directoryConfiguration = new DirectoryConfiguration();
+    this.clockResolution = CoarseClock.DefaultResolutionMillis;
+    this.addressIdBlockSize = 1;
     this.plugins = new ArrayList<>();
     this.dynamicPlugins = new ArrayList<>();
     this.properties = properties;
@@ -0,0 +1,153 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+/**
+ * ConsistentHashingRouter is a {@link ContentBasedRouter} that routes each message
+ * by the key of its first routable argument to the routee that owns the key on a
+ * ring of virtual nodes. Messages of the same key reach the same routee for as long
+ * as it is subscribed, and subscribing or unsubscribing one of {@code N} routees
+ * only moves about {@code 1/N} of the keys, all to or from that routee.
+ * <p>
+ * The ring is a sorted array of node hashes that is rebuilt on the next message
+ * following any change of routees, and a key is found on it by binary search.
+ * While there are no routees each message is a dead letter, and a query fails.
+ */
+public class ConsistentHashingRouter<P> extends ContentBasedRouter<P> {
+  public static final int DefaultVirtualNodes = 100;
+
+  private final Function<Object,?> keyOf;
+  private final int virtualNodes;
+
+  private long[] ring;
+  private Routee<P>[] owners;
+  private boolean stale;
+
+  public ConsistentHashingRouter(final RouterSpecification<P> specification, final Function<Object,?> keyOf) {
+    this(specification, keyOf, DefaultVirtualNodes);
+  }
+
+  public ConsistentHashingRouter(final RouterSpecification<P> specification, final Function<Object,?> keyOf, final int virtualNodes) {
+    super(specification);
+    if (virtualNodes <= 0)
+      throw new IllegalArgumentException("virtualNodes must be greater than zero");
+    this.keyOf = keyOf;
+    this.virtualNodes = virtualNodes;
+    this.stale = true;
+  }
+
+  /* @see io.vlingo.xoom.actors.Router#subscribe(io.vlingo.xoom.actors.Routee) */
+  @Override
+  protected void subscribe(final Routee<P> routee) {
+    super.subscribe(routee);
+    stale = true;
+  }
+
+  /* @see io.vlingo.xoom.actors.Router#unsubscribe(io.vlingo.xoom.actors.Routee) */
+  @Override
+  protected void unsubscribe(final Routee<P> routee) {
+    super.unsubscribe(routee);
+    stale = true;
+  }
+
+  /* @see io.vlingo.xoom.actors.Router#routingFor(java.lang.Object) */
+  @Override
+  protected <T1> Routing<P> routingFor(final T1 routable1) {
+    final Object key = keyOf.apply(routable1);
+    final Routee<P> routee = routeeFor(key);
+    if (routee == null) {
+      // there are no routees: a command is a dead letter, and a query fails
+      deadLetters().failedDelivery(new DeadLetter(this, "routingFor(" + key + ")"));
+      return new Routing<>();
+    }
+    return Routing.with(routee);
+  }
+
+  /* @see io.vlingo.xoom.actors.Router#routingFor(java.lang.Object, java.lang.Object) */
+  @Override
+  protected <T1, T2> Routing<P> routingFor(final T1 routable1, final T2 routable2) {
+    return routingFor(routable1);
+  }
+
+  /* @see io.vlingo.xoom.actors.Router#routingFor(java.lang.Object, java.lang.Object, java.lang.Object) */
+  @Override
+  protected <T1, T2, T3> Routing<P> routingFor(final T1 routable1, final T2 routable2, final T3 routable3) {
+    return routingFor(routable1);
+  }
+
+  /* @see io.vlingo.xoom.actors.Router#routingFor(java.lang.Object, java.lang.Object, java.lang.Object, java.lang.Object) */
+  @Override
+  protected <T1, T2, T3, T4> Routing<P> routingFor(final T1 routable1, final T2 routable2, final T3 routable3, final T4 routable4) {
+    return routingFor(routable1);
+  }
+
+  /**
+   * Answers the {@code Routee<P>} that owns the {@code key}, or null when there are no routees.
+   * @param key the Object key, which may be null
+   * @return {@code Routee<P>}
+   */
+  protected Routee<P> routeeFor(final Object key) {
+    if (stale) {
+      rebuild();
+    }
+
+    if (ring.length == 0) {
+      return null;
+    }
+
+    final int found = Arrays.binarySearch(ring, mix(key == null ? 0 : key.hashCode()));
+    final int index = found >= 0 ? found : -(found + 1);
+
+    return owners[index == ring.length ? 0 : index];
+  }
+
+  @SuppressWarnings("unchecked")
+  private void rebuild() {
+    final List<Routee<P>> routees = routees();
+    final int size = routees.size() * virtualNodes;
+    final long[] nodes = new long[size];
+    final Routee<P>[] nodeOwners = new Routee[size];
+
+    // pairs of node hash and routee index, sorted by node hash
+    final long[][] pairs = new long[size][];
+    int node = 0;
+    for (int index = 0; index < routees.size(); ++index) {
+      final long identity = mix(identityOf(routees.get(index)));
+      for (int virtual = 0; virtual < virtualNodes; ++virtual) {
+        pairs[node++] = new long[] { mix(identity + virtual), index };
+      }
+    }
+    Arrays.sort(pairs, (left, right) -> Long.compare(left[0], right[0]));
+
+    for (int idx = 0; idx < size; ++idx) {
+      nodes[idx] = pairs[idx][0];
+      nodeOwners[idx] = routees.get((int) pairs[idx][1]);
+    }
+
+    this.ring = nodes;
+    this.owners = nodeOwners;
+    this.stale = false;
+  }
+
+  private static long identityOf(final Routee<?> routee) {
+    final Object delegate = routee.delegate();
+    final Object identity = delegate instanceof Proxy ? ((Proxy) delegate).address() : delegate;
+    return identity == null ? 0 : identity.hashCode();
+  }
+
+  private static long mix(final long value) {
+    // the finalizer of SplitMix64, such that near values spread over the ring
+    long mixed = value + 0x9E3779B97F4A7C15L;
+    mixed = (mixed ^ (mixed >>> 30)) * 0xBF58476D1CE4E5B9L;
+    mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+    return mixed ^ (mixed >>> 31);
+  }
+}
@@ -10,13 +10,28 @@ package io.vlingo.xoom.actors;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.vlingo.xoom.common.SerializableConsumer;
 
 final class Directory {
-  private static final int DefaultStageBuckets = 32;
-  private static final int DefaultStageInitialCapacity = 32;
+  private static final int DefaultStageBuckets = DirectoryConfiguration.DefaultBuckets;
+  private static final int DefaultStageInitialCapacity = DirectoryConfiguration.DefaultInitialCapacity;
+  private static final int DumpBatchSize = 1_000;
 
   private final Address none;
 
@@ -37,31 +52,129 @@ final class Directory {
   // elements in initial capacity (and probably no greater than that).
   // This will support 2 million actors with an average of a few hundred
   // less than 16K actors in each bucket.
+  //
+  // (3) Configuration: growable; see DirectoryConfiguration
+  // Each bucket is an ExtendibleHashMap that splits itself into parts
+  // of initialCapacity elements, so that unknown or widely varying actor
+  // counts never cause a full rehash of a large bucket. This trades a
+  // small constant cost per access for the absence of long growth pauses.
+  //
+  // (4) Configuration: primitive keyed; see DirectoryConfiguration
+  // With BasicAddress every id is a long, so each bucket is a
+  // LongKeyedActorMap that is open addressed on that long, with no
+  // node per actor and no Address#equals() per probe.
 
   private final int buckets;
   private final int initialCapacity;
   private final float loadFactor = 0.75f;
-
-  // TODO: base this on scheduler/dispatcher
-  private final int concurrencyLevel = 16;
+  private final int concurrencyLevel;
+  private final boolean growable;
+  private final boolean primitiveKeyed;
 
   private final Map<Address, Actor>[] maps;
 
+  // The placeholder of each Actor being created by computeIfAbsent(), on which
+  // concurrent callers for the same Address wait, such that only one Actor is
+  // instantiated per Address and no lock is held across its construction.
+  private final ConcurrentHashMap<Address, CompletableFuture<Actor>> creations = new ConcurrentHashMap<>();
+
+  // A CLOCK of evictable actors in registration order, present only when
+  // the Stage evicts. The hand is the head: a recently active actor gets a
+  // second chance at the tail, and stopped actors are dropped when reached
+  // or by compaction once they outnumber the registered actors.
+  private volatile Queue<Actor> evictionClock;
+  private final AtomicInteger evictionClockGarbage = new AtomicInteger(0);
+
+  // The addresses of each given name, present only when name indexed. A name
+  // of one Address maps to it, and of several to an Address[] that is
+  // replaced on change. An entry may briefly outlive a removed actor when
+  // its removal races with its registration, so lookups verify actorOf().
+  private final ConcurrentHashMap<String, Object> names;
+
+  // The Definition of each passivated actor, by which it is reactivated.
+  private final Map<Address, Definition> tombstones = new ConcurrentHashMap<>();
+
   Directory(final Address none) {
     this(none, DefaultStageBuckets, DefaultStageInitialCapacity);
   }
 
   Directory(final Address none, final int buckets, final int initialCapacity) {
+    this(none, DirectoryConfiguration.define().buckets(buckets).initialCapacity(initialCapacity));
+  }
+
+  Directory(final Address none, final DirectoryConfiguration configuration) {
     this.none = none;
-    this.buckets = buckets;
-    this.initialCapacity = initialCapacity;
+    this.buckets = configuration.buckets();
+    this.initialCapacity = configuration.initialCapacity();
+    this.concurrencyLevel = configuration.concurrencyLevel();
+    this.growable = configuration.isGrowable();
+    this.primitiveKeyed = configuration.isPrimitiveKeyed() && none instanceof BasicAddress;
     this.maps = build();
+    this.names = configuration.isNameIndexed() ? new ConcurrentHashMap<>() : null;
   }
 
   Actor actorOf(final Address address) {
     return this.maps[mapIndex(address)].get(address);
   }
 
+  /**
+   * Answers the Actor registered at {@code address}, or when there is none, the Actor
+   * answered by {@code creator} after registering it. The first caller for an absent
+   * {@code address} leaves a placeholder and uses {@code creator} without holding any
+   * lock, and concurrent callers for the same {@code address} wait on that placeholder
+   * for its Actor or its failure. Neither recursion nor exceptions are used to resolve
+   * races. The {@code creator} must not register the Actor itself, nor answer the Actor
+   * of the same {@code address} by way of this method.
+   * @param address the Address of the Actor to answer
+   * @param creator the {@code Function<Address, Actor>} used to instantiate an unregistered Actor
+   * @return Actor
+   */
+  Actor computeIfAbsent(final Address address, final Function<Address, Actor> creator) {
+    final Map<Address, Actor> map = this.maps[mapIndex(address)];
+
+    final Actor existing = map.get(address);
+    if (existing != null) {
+      return existing;
+    }
+
+    final CompletableFuture<Actor> placeholder = new CompletableFuture<>();
+    final CompletableFuture<Actor> creation = creations.putIfAbsent(address, placeholder);
+    if (creation != null) {
+      return awaitCreation(creation);
+    }
+
+    try {
+      final Actor current = map.get(address);
+      if (current != null) {
+        placeholder.complete(current);
+        return current;
+      }
+
+      final Actor created = creator.apply(address);
+
+      final Actor raced = map.putIfAbsent(address, created);
+      if (raced != null) {
+        // a plain register() does not see the placeholder and won; the start
+        // of the created Actor is already enqueued, so its stop follows it
+        stopThroughMailbox(created);
+        placeholder.complete(raced);
+        return raced;
+      }
+
+      trackEvictable(created);
+      indexName(address);
+
+      placeholder.complete(created);
+
+      return created;
+    } catch (final Throwable t) {
+      placeholder.completeExceptionally(t);
+      throw t;
+    } finally {
+      creations.remove(address, placeholder);
+    }
+  }
+
   int count() {
     int count = 0;
     for (final Map<Address, Actor> map : maps) {
@@ -72,37 +185,199 @@ final class Directory {
 
   void dump(final Logger logger) {
     if (logger.isEnabled()) {
-      for (final Map<Address, Actor> map : maps) {
-        for (final Actor actor : map.values()) {
+      final Cursor cursor = cursor(actor -> true);
+      while (cursor.hasNext()) {
+        final List<Actor> batch = cursor.next(DumpBatchSize);
+        if (batch.isEmpty()) {
+          continue;
+        }
+        final StringBuilder builder = new StringBuilder(batch.size() * 128);
+        for (final Actor actor : batch) {
           final Address address = actor.address();
           final Address parent = actor.lifeCycle.environment.parent == null ? none : actor.lifeCycle.environment.parent.address();
-          logger.debug("DIR: DUMP: ACTOR: " + address + " PARENT: " + parent + " TYPE: " + actor.getClass());
+          builder.append("\nDIR: DUMP: ACTOR: ").append(address).append(" PARENT: ").append(parent).append(" TYPE: ").append(actor.getClass());
         }
+        logger.debug(builder.toString());
       }
     }
   }
 
+  /**
+   * Answers a {@code Stream<Actor>} of my registered actors, which is weakly consistent:
+   * it never fails because of concurrent registration or removal, answers each actor
+   * registered throughout at most once, and may or may not answer those registered or
+   * removed meanwhile. Nothing is copied except one bucket at a time when primitive keyed.
+   * @param parallel the boolean indicating whether the stream is parallel, which splits across buckets and then within them
+   * @return {@code Stream<Actor>}
+   */
+  Stream<Actor> actors(final boolean parallel) {
+    return StreamSupport.stream(new ActorSpliterator(0, maps.length), parallel);
+  }
+
+  /**
+   * Answers a new {@code Cursor} over my registered actors that satisfy {@code filter},
+   * each batch of which is taken where the previous one ended. It has the weak
+   * consistency of {@code actors()}, so it may be held across messages.
+   * @param filter the {@code Predicate<Actor>} that answered actors satisfy
+   * @return Cursor
+   */
+  Cursor cursor(final Predicate<Actor> filter) {
+    return new Cursor(new ActorSpliterator(0, maps.length), filter);
+  }
+
   boolean isRegistered(final Address address) {
     return this.maps[mapIndex(address)].containsKey(address);
   }
 
   void register(final Address address, final Actor actor) {
-    if (isRegistered(address)) {
+    if (this.maps[mapIndex(address)].putIfAbsent(address, actor) != null) {
       throw new ActorAddressAlreadyRegistered(actor.getClass(), address);
     }
-    this.maps[mapIndex(address)].put(address, actor);
+    trackEvictable(actor);
+    indexName(address);
+  }
+
+  void registerAll(final Collection<Actor> actors) {
+    for (final Actor actor : actors) {
+      final Address address = actor.address();
+      if (this.maps[mapIndex(address)].putIfAbsent(address, actor) != null) {
+        throw new ActorAddressAlreadyRegistered(actor.getClass(), address);
+      }
+      trackEvictable(actor);
+      indexName(address);
+    }
   }
 
   Actor remove(final Address address) {
-    return this.maps[mapIndex(address)].remove(address);
+    final Actor removed = this.maps[mapIndex(address)].remove(address);
+    if (removed != null) {
+      untrackEvictable(removed);
+      unindexName(address);
+    }
+    return removed;
   }
 
-  Collection<Actor> evictionCandidates(long thresholdMillis) {
-    return Arrays.stream(maps)
-        .flatMap(m -> m.values().stream())
-        .filter(a -> a.lifeCycle.evictable.isStale(thresholdMillis)
-            && a.lifeCycle.environment.mailbox.pendingMessages() == 0)
-        .collect(Collectors.toCollection(ArrayList::new));
+  boolean remove(final Address address, final Actor actor) {
+    // identity rather than Actor#equals(), which would match a replacement of the same type
+    final boolean[] removed = new boolean[1];
+    this.maps[mapIndex(address)].computeIfPresent(address, (key, current) -> {
+      removed[0] = current == actor;
+      return removed[0] ? null : current;
+    });
+    if (removed[0]) {
+      untrackEvictable(actor);
+      unindexName(address);
+    }
+    return removed[0];
+  }
+
+  /**
+   * Starts tracking my evictable actors in a CLOCK, which is required by
+   * {@code evictionCandidates()}. Tracking is never stopped.
+   */
+  synchronized void trackEvictions() {
+    if (evictionClock != null) {
+      return;
+    }
+
+    evictionClock = new ConcurrentLinkedQueue<>();
+
+    for (final Map<Address, Actor> map : maps) {
+      for (final Actor actor : map.values()) {
+        trackEvictable(actor);
+      }
+    }
+  }
+
+  /**
+   * Answers up to {@code maximum} evictable actors that have not received a message
+   * within {@code thresholdMillis}, in approximately least recently used order. At
+   * most {@code sweepLimit} tracked actors are inspected, so the cost is proportional
+   * to the requested batch rather than to the number of registered actors. A candidate
+   * that is not evicted must be given back by {@code retainEvictionCandidate()}.
+   * @param thresholdMillis the long milliseconds of inactivity after which an actor is stale
+   * @param maximum the int maximum number of candidates to answer
+   * @param sweepLimit the int maximum number of tracked actors to inspect
+   * @return {@code List<Actor>}
+   */
+  List<Actor> evictionCandidates(final long thresholdMillis, final int maximum, final int sweepLimit) {
+    final Queue<Actor> clock = evictionClock;
+    final List<Actor> candidates = new ArrayList<>(Math.min(maximum, 1_024));
+
+    if (clock == null) {
+      return candidates;
+    }
+
+    for (int inspected = 0; inspected < sweepLimit && candidates.size() < maximum; ++inspected) {
+      final Actor actor = clock.poll();
+      if (actor == null) {
+        break;
+      } else if (actor.lifeCycle.isStopped()) {
+        evictionClockGarbage.decrementAndGet();
+      } else if (actor.lifeCycle.evictable.isStale(thresholdMillis)) {
+        candidates.add(actor);
+      } else {
+        clock.offer(actor);
+      }
+    }
+
+    return candidates;
+  }
+
+  /**
+   * Gives back the {@code actor} answered by {@code evictionCandidates()} that was not evicted.
+   * @param actor the Actor to continue tracking
+   */
+  void retainEvictionCandidate(final Actor actor) {
+    final Queue<Actor> clock = evictionClock;
+    if (clock != null && !actor.lifeCycle.isStopped()) {
+      clock.offer(actor);
+    }
+  }
+
+  /**
+   * Removes stopped actors from the CLOCK when they outnumber the registered actors,
+   * which bounds its size at twice the registered actors and amortizes the cost of
+   * compaction over the removals that made it necessary.
+   */
+  void compactEvictionClock() {
+    final Queue<Actor> clock = evictionClock;
+    if (clock != null && evictionClockGarbage.get() > count()) {
+      evictionClockGarbage.set(0);
+      clock.removeIf(actor -> actor.lifeCycle.isStopped());
+    }
+  }
+
+  /**
+   * Leaves the tombstone of the passivated actor of {@code address}, which holds the
+   * {@code definition} used to reactivate it.
+   * @param address the Address of the passivated actor
+   * @param definition the Definition of the passivated actor
+   */
+  void tombstone(final Address address, final Definition definition) {
+    tombstones.put(address, definition);
+  }
+
+  /**
+   * Answers the Definition of the passivated actor of {@code address}, or {@code null}.
+   * @param address the Address of the passivated actor
+   * @return Definition
+   */
+  Definition tombstoneOf(final Address address) {
+    return tombstones.get(address);
+  }
+
+  /**
+   * Removes the tombstone of {@code address}, answering whether there was one.
+   * @param address the Address of the reactivated actor
+   * @return boolean
+   */
+  boolean removeTombstone(final Address address) {
+    return tombstones.remove(address) != null;
+  }
+
+  int tombstoneCount() {
+    return tombstones.size();
   }
 
   Collection<Address> addresses() {
@@ -111,22 +386,275 @@ final class Directory {
         .collect(Collectors.toCollection(ArrayList::new));
   }
 
+  /**
+   * Answers the actors registered with an {@code Address} of {@code name}, in no particular
+   * order. When I am name indexed this is proportional to the actors of {@code name};
+   * otherwise every registered {@code Address} is inspected, though none is copied.
+   * @param name the String name of the actors to answer
+   * @return {@code List<Actor>}
+   */
+  List<Actor> actorsNamed(final String name) {
+    final List<Actor> named = new ArrayList<>(1);
+
+    if (names == null) {
+      for (final Map<Address, Actor> map : maps) {
+        for (final Map.Entry<Address, Actor> entry : map.entrySet()) {
+          if (name.equals(entry.getKey().name())) {
+            named.add(entry.getValue());
+          }
+        }
+      }
+      return named;
+    }
+
+    final Object indexed = names.get(name);
+    if (indexed instanceof Address) {
+      addIfRegistered(named, (Address) indexed);
+    } else if (indexed != null) {
+      for (final Address address : (Address[]) indexed) {
+        addIfRegistered(named, address);
+      }
+    }
+
+    return named;
+  }
+
+  boolean isNameIndexed() {
+    return names != null;
+  }
+
+  private void addIfRegistered(final List<Actor> named, final Address address) {
+    final Actor actor = actorOf(address);
+    if (actor != null) {
+      named.add(actor);
+    }
+  }
+
+  private void indexName(final Address address) {
+    if (names == null || !isNamed(address)) {
+      return;
+    }
+    names.compute(address.name(), (name, indexed) -> {
+      if (indexed == null) {
+        return address;
+      } else if (indexed instanceof Address) {
+        return new Address[] { (Address) indexed, address };
+      }
+      final Address[] addresses = (Address[]) indexed;
+      final Address[] grown = Arrays.copyOf(addresses, addresses.length + 1);
+      grown[addresses.length] = address;
+      return grown;
+    });
+  }
+
+  private void unindexName(final Address address) {
+    if (names == null || !isNamed(address)) {
+      return;
+    }
+    names.computeIfPresent(address.name(), (name, indexed) -> {
+      if (indexed instanceof Address) {
+        return indexed.equals(address) ? null : indexed;
+      }
+      final Address[] addresses = (Address[]) indexed;
+      final List<Address> remaining = new ArrayList<>(addresses.length);
+      for (final Address each : addresses) {
+        if (!each.equals(address)) {
+          remaining.add(each);
+        }
+      }
+      if (remaining.size() <= 1) {
+        return remaining.isEmpty() ? null : remaining.get(0);
+      }
+      return remaining.toArray(new Address[0]);
+    });
+  }
+
+  private boolean isNamed(final Address address) {
+    // an Address without a given name answers its id as its name
+    return !address.name().equals(address.idString());
+  }
+
+  private void trackEvictable(final Actor actor) {
+    final Queue<Actor> clock = evictionClock;
+    if (clock != null && actor.lifeCycle.environment.definition.evictable) {
+      clock.offer(actor);
+    }
+  }
+
+  private void untrackEvictable(final Actor actor) {
+    if (evictionClock != null && actor.lifeCycle.environment.definition.evictable) {
+      evictionClockGarbage.incrementAndGet();
+    }
+  }
+
   @SuppressWarnings("unchecked")
   private Map<Address, Actor>[] build() {
 
-    final Map<Address, Actor>[] tempMaps = new ConcurrentHashMap[buckets];
+    final Map<Address, Actor>[] tempMaps = new Map[buckets];
     for (int idx = 0; idx < tempMaps.length; ++idx) {
-      tempMaps[idx] = new ConcurrentHashMap<>(initialCapacity, loadFactor, concurrencyLevel);
+      if (primitiveKeyed) {
+        tempMaps[idx] = new LongKeyedActorMap(initialCapacity, loadFactor);
+      } else if (growable) {
+        tempMaps[idx] = new ExtendibleHashMap<>(initialCapacity, loadFactor, concurrencyLevel);
+      } else {
+        tempMaps[idx] = new ConcurrentHashMap<>(initialCapacity, loadFactor, concurrencyLevel);
+      }
     }
 
     return tempMaps;
   }
 
+  private Actor awaitCreation(final CompletableFuture<Actor> creation) {
+    try {
+      return creation.join();
+    } catch (CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /**
+   * Stops {@code actor}, which is not registered, by way of its mailbox, such that its
+   * stop is delivered on its own thread after any message already enqueued.
+   * @param actor the Actor to stop
+   */
+  private void stopThroughMailbox(final Actor actor) {
+    final Mailbox mailbox = actor.lifeCycle.environment.mailbox;
+    final SerializableConsumer<Stoppable> consumer = Stoppable::stop;
+    if (mailbox.isPreallocated()) {
+      mailbox.send(actor, Stoppable.class, consumer, null, "stop()");
+    } else {
+      mailbox.send(new LocalMessage<Stoppable>(actor, Stoppable.class, consumer, "stop()"));
+    }
+  }
+
   private int mapIndex(final Address address) {
     return Math.abs(address.hashCode() % maps.length);
   }
 
 
+  /**
+   * A resumable position in my registered actors, answering them in batches. (INTERNAL ONLY)
+   */
+  static final class Cursor {
+    private final Spliterator<Actor> actors;
+    private final Predicate<Actor> filter;
+    private boolean exhausted;
+
+    private Cursor(final Spliterator<Actor> actors, final Predicate<Actor> filter) {
+      this.actors = actors;
+      this.filter = filter;
+      this.exhausted = false;
+    }
+
+    /**
+     * Answers whether there may be more actors, though the next batch may still be empty.
+     * @return boolean
+     */
+    boolean hasNext() {
+      return !exhausted;
+    }
+
+    /**
+     * Answers up to {@code maximum} next actors that satisfy my filter.
+     * @param maximum the int maximum number of actors to answer
+     * @return {@code List<Actor>}
+     */
+    List<Actor> next(final int maximum) {
+      final List<Actor> batch = new ArrayList<>(Math.min(maximum, 1_024));
+      while (batch.size() < maximum && !exhausted) {
+        exhausted = !actors.tryAdvance(actor -> {
+          if (filter.test(actor)) {
+            batch.add(actor);
+          }
+        });
+      }
+      return batch;
+    }
+  }
+
+  /**
+   * A {@code Spliterator<Actor>} over my buckets in {@code [index, fence)}, which
+   * splits by halving the buckets, and within a last bucket by splitting its map.
+   */
+  private final class ActorSpliterator implements Spliterator<Actor> {
+    private int index;
+    private int fence;
+    private Spliterator<Actor> current;
+
+    ActorSpliterator(final int origin, final int fence) {
+      this.index = origin;
+      this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Actor> action) {
+      while (true) {
+        if (current == null) {
+          if (index >= fence) {
+            return false;
+          }
+          current = maps[index++].values().spliterator();
+        }
+        if (current.tryAdvance(action)) {
+          return true;
+        }
+        current = null;
+      }
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super Actor> action) {
+      if (current != null) {
+        current.forEachRemaining(action);
+        current = null;
+      }
+      while (index < fence) {
+        maps[index++].values().spliterator().forEachRemaining(action);
+      }
+    }
+
+    @Override
+    public Spliterator<Actor> trySplit() {
+      final int remaining = fence - index;
+
+      if (current != null && remaining > 0) {
+        final ActorSpliterator rest = new ActorSpliterator(index, fence);
+        fence = index;
+        return rest;
+      } else if (current == null && remaining > 1) {
+        final int middle = (index + fence) >>> 1;
+        final ActorSpliterator prefix = new ActorSpliterator(index, middle);
+        index = middle;
+        return prefix;
+      } else if (current == null && remaining == 1) {
+        current = maps[index++].values().spliterator();
+      }
+
+      return current == null ? null : current.trySplit();
+    }
+
+    @Override
+    public long estimateSize() {
+      long size = current == null ? 0 : current.estimateSize();
+      for (int idx = index; idx < fence; ++idx) {
+        size += maps[idx].size();
+      }
+      return size;
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.CONCURRENT | Spliterator.NONNULL;
+    }
+  }
+
   public static final class ActorAddressAlreadyRegistered extends IllegalArgumentException {
     private static final long serialVersionUID = 1L;
 
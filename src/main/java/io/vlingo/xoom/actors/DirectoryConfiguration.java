@@ -0,0 +1,177 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+/**
+ * The {@code Directory} tuning of a {@code Stage}, or of every {@code Stage}
+ * when no {@code stageName} is given.
+ * <p>
+ * A fixed {@code Directory} spreads its actors across {@code buckets} maps of
+ * {@code initialCapacity} elements each, which rehash as they grow. A growable
+ * {@code Directory} instead splits each of its {@code buckets} into parts of no
+ * more than {@code initialCapacity} elements, so that no single growth step
+ * rehashes more than {@code initialCapacity} actors.
+ * <p>
+ * A primitive-keyed {@code Directory} stores each of its {@code buckets} in an
+ * open-addressing map keyed by the {@code long} id of {@code BasicAddress}. It is
+ * used only by a {@code Stage} whose {@code AddressFactory} answers {@code BasicAddress}
+ * instances, and takes precedence over growable.
+ * <p>
+ * The asynchronous lookups of a {@code Stage} are answered by a pool of
+ * {@code scanners} actors, each serving the addresses of its share of hashes.
+ * <p>
+ * A name-indexed {@code Directory} also maps each {@code Address#name()} that was
+ * given, rather than derived from the id, to its addresses, so that actors are found
+ * by name without scanning the {@code Directory}.
+ */
+public class DirectoryConfiguration {
+  public static final int DefaultBuckets = 32;
+  public static final int DefaultInitialCapacity = 32;
+  public static final int DefaultConcurrencyLevel = 16;
+  public static final int DefaultScanners = 1;
+
+  public static DirectoryConfiguration define() {
+    return new DirectoryConfiguration();
+  }
+
+  private String stageName;
+  private int buckets;
+  private int initialCapacity;
+  private int concurrencyLevel;
+  private boolean growable;
+  private boolean primitiveKeyed;
+  private int scanners;
+  private boolean nameIndexed;
+
+  public DirectoryConfiguration() {
+    this(null, DefaultBuckets, DefaultInitialCapacity, DefaultConcurrencyLevel, false, false, DefaultScanners);
+  }
+
+  public DirectoryConfiguration(
+        final String stageName,
+        final int buckets,
+        final int initialCapacity,
+        final int concurrencyLevel,
+        final boolean growable,
+        final boolean primitiveKeyed) {
+    this(stageName, buckets, initialCapacity, concurrencyLevel, growable, primitiveKeyed, DefaultScanners);
+  }
+
+  public DirectoryConfiguration(
+        final String stageName,
+        final int buckets,
+        final int initialCapacity,
+        final int concurrencyLevel,
+        final boolean growable,
+        final boolean primitiveKeyed,
+        final int scanners) {
+    this.stageName = stageName;
+    this.buckets = buckets;
+    this.initialCapacity = initialCapacity;
+    this.concurrencyLevel = concurrencyLevel;
+    this.growable = growable;
+    this.primitiveKeyed = primitiveKeyed;
+    this.scanners = scanners;
+    this.nameIndexed = false;
+  }
+
+  public DirectoryConfiguration forStage(final String stageName) {
+    this.stageName = stageName;
+    return this;
+  }
+
+  public String stageName() {
+    return stageName;
+  }
+
+  public boolean isDefault() {
+    return stageName == null;
+  }
+
+  public DirectoryConfiguration buckets(final int buckets) {
+    if (buckets < 1) {
+      throw new IllegalArgumentException("Directory buckets must be greater than zero.");
+    }
+    this.buckets = buckets;
+    return this;
+  }
+
+  public int buckets() {
+    return buckets;
+  }
+
+  public DirectoryConfiguration initialCapacity(final int initialCapacity) {
+    if (initialCapacity < 1) {
+      throw new IllegalArgumentException("Directory initial capacity must be greater than zero.");
+    }
+    this.initialCapacity = initialCapacity;
+    return this;
+  }
+
+  public int initialCapacity() {
+    return initialCapacity;
+  }
+
+  public DirectoryConfiguration concurrencyLevel(final int concurrencyLevel) {
+    if (concurrencyLevel < 1) {
+      throw new IllegalArgumentException("Directory concurrency level must be greater than zero.");
+    }
+    this.concurrencyLevel = concurrencyLevel;
+    return this;
+  }
+
+  public int concurrencyLevel() {
+    return concurrencyLevel;
+  }
+
+  public DirectoryConfiguration growable(final boolean growable) {
+    this.growable = growable;
+    return this;
+  }
+
+  public boolean isGrowable() {
+    return growable;
+  }
+
+  public DirectoryConfiguration primitiveKeyed(final boolean primitiveKeyed) {
+    this.primitiveKeyed = primitiveKeyed;
+    return this;
+  }
+
+  public boolean isPrimitiveKeyed() {
+    return primitiveKeyed;
+  }
+
+  public DirectoryConfiguration scanners(final int scanners) {
+    if (scanners < 1) {
+      throw new IllegalArgumentException("Directory scanners must be greater than zero.");
+    }
+    this.scanners = scanners;
+    return this;
+  }
+
+  public int scanners() {
+    return scanners;
+  }
+
+  public DirectoryConfiguration nameIndexed(final boolean nameIndexed) {
+    this.nameIndexed = nameIndexed;
+    return this;
+  }
+
+  public boolean isNameIndexed() {
+    return nameIndexed;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "DirectoryConfiguration(stageName='%s', buckets='%d', initialCapacity='%d', concurrencyLevel='%d', growable='%b', primitiveKeyed='%b', scanners='%d', nameIndexed='%b')",
+        stageName, buckets, initialCapacity, concurrencyLevel, growable, primitiveKeyed, scanners, nameIndexed);
+  }
+}
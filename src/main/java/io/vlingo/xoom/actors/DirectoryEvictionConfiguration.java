@@ -21,6 +21,9 @@ public class DirectoryEvictionConfiguration implements PluginConfiguration {
   public static final long DefaultLRUProbeInterval = 30 * 1_000L;   // 30 seconds
   public static final long DefaultLRUThreshold = 2 * 60 * 1_000;    // 2 minutes
   public static final float DefaultFullRatioHighMark = 0.8F;        // 80%
+  public static final int DefaultLRUEvictionBatchSize = 1_000;      // actors per probe
+  public static final float DefaultMaxEvictionRatio = 0.25F;        // 25% when the heap is full
+  public static final boolean DefaultHeapPressureNotifications = true;
 
 
   public static DirectoryEvictionConfiguration define() {
@@ -34,6 +37,10 @@ public class DirectoryEvictionConfiguration implements PluginConfiguration {
   private long lruProbeInterval;
   private long lruThreshold;
   private float fullRatioHighMark;
+  private int lruEvictionBatchSize;
+  private float maxEvictionRatio;
+  private boolean heapPressureNotifications;
+  private PassivationStore passivationStore;
 
 
   public DirectoryEvictionConfiguration() {
@@ -46,11 +53,24 @@ public class DirectoryEvictionConfiguration implements PluginConfiguration {
         final long lruProbeInterval,
         final long lruThreshold,
         final float fullRatioHighMark) {
+    this(enabled, excludedStageNames, lruProbeInterval, lruThreshold, fullRatioHighMark, DefaultLRUEvictionBatchSize);
+  }
+
+  public DirectoryEvictionConfiguration(
+        final boolean enabled,
+        final List<String> excludedStageNames,
+        final long lruProbeInterval,
+        final long lruThreshold,
+        final float fullRatioHighMark,
+        final int lruEvictionBatchSize) {
     this.enabled = enabled;
     this.excludedStageNames = Collections.unmodifiableList(excludedStageNames == null ? Collections.emptyList() : excludedStageNames);
     this.lruProbeInterval = lruProbeInterval;
     this.lruThreshold = lruThreshold;
     this.fullRatioHighMark = fullRatioHighMark;
+    this.lruEvictionBatchSize = lruEvictionBatchSize;
+    this.maxEvictionRatio = DefaultMaxEvictionRatio;
+    this.heapPressureNotifications = DefaultHeapPressureNotifications;
   }
 
 
@@ -103,13 +123,58 @@ public class DirectoryEvictionConfiguration implements PluginConfiguration {
     return fullRatioHighMark;
   }
 
+  public DirectoryEvictionConfiguration lruEvictionBatchSize(final int batchSize) {
+    this.lruEvictionBatchSize = batchSize;
+    return this;
+  }
+
+  public int lruEvictionBatchSize() {
+    return lruEvictionBatchSize;
+  }
+
+  public DirectoryEvictionConfiguration maxEvictionRatio(final float ratio) {
+    this.maxEvictionRatio = ratio;
+    return this;
+  }
+
+  public float maxEvictionRatio() {
+    return maxEvictionRatio;
+  }
+
+  public DirectoryEvictionConfiguration heapPressureNotifications(final boolean heapPressureNotifications) {
+    this.heapPressureNotifications = heapPressureNotifications;
+    return this;
+  }
+
+  public boolean heapPressureNotifications() {
+    return heapPressureNotifications;
+  }
+
+  /**
+   * Answers myself after setting the {@code PassivationStore} to which evicted actors
+   * are passivated rather than simply stopped.
+   * @param passivationStore the PassivationStore of actor state snapshots, or null to only stop
+   * @return DirectoryEvictionConfiguration
+   */
+  public DirectoryEvictionConfiguration passivateTo(final PassivationStore passivationStore) {
+    this.passivationStore = passivationStore;
+    return this;
+  }
+
+  public PassivationStore passivationStore() {
+    return passivationStore;
+  }
+
   @Override
   public void build(Configuration configuration) {
     configuration
         .with(exclude(defaultExcludes(new String[0]))
              .lruProbeInterval(DefaultLRUProbeInterval)
              .lruThreshold(DefaultLRUThreshold)
-             .fullRatioHighMark(DefaultFullRatioHighMark));
+             .fullRatioHighMark(DefaultFullRatioHighMark)
+             .lruEvictionBatchSize(DefaultLRUEvictionBatchSize)
+             .maxEvictionRatio(DefaultMaxEvictionRatio)
+             .heapPressureNotifications(DefaultHeapPressureNotifications));
   }
 
   @Override
@@ -119,6 +184,9 @@ public class DirectoryEvictionConfiguration implements PluginConfiguration {
     this.lruProbeInterval = properties.getLong("lruProbeInterval", DefaultLRUProbeInterval);
     this.lruThreshold = properties.getLong("lruThreshold", DefaultLRUThreshold);
     this.fullRatioHighMark = properties.getFloat("fullRatioHighMark", DefaultFullRatioHighMark);
+    this.lruEvictionBatchSize = properties.getInteger("lruEvictionBatchSize", DefaultLRUEvictionBatchSize);
+    this.maxEvictionRatio = properties.getFloat("maxEvictionRatio", DefaultMaxEvictionRatio);
+    this.heapPressureNotifications = properties.getBoolean("heapPressureNotifications", DefaultHeapPressureNotifications);
     configuration.with(this);
   }
  
@@ -131,8 +199,8 @@ public class DirectoryEvictionConfiguration implements PluginConfiguration {
   @Override
   public String toString() {
     return String.format(
-        "DirectoryEvictionConfiguration(name='%s', enabled='%b', excludedStageNames=%s, lruProbeInterval='%s', lruThreshold='%s', fullRatioHighMark='%.2f')",
-        name, enabled, excludedStageNames, lruProbeInterval, lruThreshold, fullRatioHighMark);
+        "DirectoryEvictionConfiguration(name='%s', enabled='%b', excludedStageNames=%s, lruProbeInterval='%s', lruThreshold='%s', fullRatioHighMark='%.2f', lruEvictionBatchSize='%d', maxEvictionRatio='%.2f', heapPressureNotifications='%b', passivationStore=%s)",
+        name, enabled, excludedStageNames, lruProbeInterval, lruThreshold, fullRatioHighMark, lruEvictionBatchSize, maxEvictionRatio, heapPressureNotifications, passivationStore);
   }
 
   private List<String> defaultExcludes(final String[] stageNames) {
@@ -10,14 +10,18 @@ package io.vlingo.xoom.actors;
 import io.vlingo.xoom.common.Scheduled;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.List;
 
 public class DirectoryEvictor extends Actor implements Scheduled<Object> {
+  // the number of tracked actors inspected per actor of a batch
+  private static final int SweepFactor = 4;
+  private static final Object ContinueEvicting = new Object();
 
   private final DirectoryEvictionConfiguration config;
   private final Directory directory;
+  private HeapPressure heapPressure;
+  private int pendingEvictions;
+  private boolean continuing;
 
   public DirectoryEvictor(final Directory directory) {
     this(new DirectoryEvictionConfiguration(), directory);
@@ -30,28 +34,98 @@ public class DirectoryEvictor extends Actor implements Scheduled<Object> {
   }
 
 
+  /**
+   * Signals eviction on each probe and, when enabled, on each notification that the
+   * tenured heap is above the high mark after a collection. The number of actors
+   * evicted is proportional to how far usage is above the high mark, and is taken
+   * in batches that continue as my own messages.
+   */
   @Override
-  public void intervalSignal(Scheduled<Object> scheduled, Object o) {
-    logger().debug("Started eviction routine");
-
-    float fillRatio = Runtime.getRuntime().freeMemory() / (float) Runtime.getRuntime().totalMemory();
-    if (fillRatio >= config.fullRatioHighMark()) {
-      logger().debug("Memory fill ratio {} exceeding watermark ({})", fillRatio, config.fullRatioHighMark());
-      Collection<Address> evicted = directory.evictionCandidates(config.lruThreshold()).stream()
-          .flatMap(actor -> {
-            if(actor.lifeCycle.evictable.stop(config.lruThreshold())) {
-              return Stream.of(actor.address());
-            }
-            else {
-              return Stream.empty();
-            }
-          })
-          .collect(Collectors.toCollection(ArrayList::new));
-      logger().debug("Evicted {} actors :: {}", evicted.size(), evicted);
+  public void intervalSignal(Scheduled<Object> scheduled, Object data) {
+    if (data == ContinueEvicting) {
+      continuing = false;
+    } else {
+      logger().debug("Started eviction routine");
+
+      directory.compactEvictionClock();
+
+      final float usedRatio = heapPressure.usedRatio();
+      if (usedRatio < config.fullRatioHighMark()) {
+        logger().debug("Memory used ratio {} was below watermark ({})", usedRatio, config.fullRatioHighMark());
+        return;
+      }
+
+      final int target = evictionTarget(directory.count(), usedRatio, config.fullRatioHighMark(), config.maxEvictionRatio());
+      logger().debug("Memory used ratio {} exceeding watermark ({}); evicting up to {}", usedRatio, config.fullRatioHighMark(), target);
+      pendingEvictions = Math.max(pendingEvictions, target);
+
+      if (continuing) {
+        return; // the batch in flight will take the new target
+      }
     }
-    else {
-      logger().debug("Memory fill ratio {} was below watermark ({})", fillRatio, config.fullRatioHighMark());
+
+    evictBatch(scheduled);
+  }
+
+  /**
+   * Answers the number of actors of {@code count} to evict when {@code usedRatio} of the
+   * heap is used, which grows linearly from one at {@code highMark} to {@code maxEvictionRatio}
+   * of {@code count} when the heap is full.
+   * @param count the int number of registered actors
+   * @param usedRatio the float ratio of used to maximum memory
+   * @param highMark the float ratio above which actors are evicted
+   * @param maxEvictionRatio the float ratio of {@code count} to evict when the heap is full
+   * @return int
+   */
+  static int evictionTarget(final int count, final float usedRatio, final float highMark, final float maxEvictionRatio) {
+    if (usedRatio < highMark || count <= 0) {
+      return 0;
     }
+    final float excess = highMark >= 1.0f ? 1.0f : Math.min(1.0f, (usedRatio - highMark) / (1.0f - highMark));
+    return Math.max(1, (int) Math.ceil(count * maxEvictionRatio * excess));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void beforeStart() {
+    final Scheduled<Object> self = selfAs(Scheduled.class);
+    heapPressure = config.heapPressureNotifications() ?
+            HeapPressure.listen(config.fullRatioHighMark(), () -> self.intervalSignal(null, null)) :
+            HeapPressure.measure(config.fullRatioHighMark());
+    super.beforeStart();
   }
 
+  @Override
+  protected void afterStop() {
+    if (heapPressure != null) {
+      heapPressure.close();
+    }
+    super.afterStop();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void evictBatch(final Scheduled<Object> scheduled) {
+    final int batchSize = Math.min(pendingEvictions, config.lruEvictionBatchSize());
+    final List<Actor> candidates = directory.evictionCandidates(config.lruThreshold(), batchSize, batchSize * SweepFactor);
+    final List<Address> evicted = new ArrayList<>(candidates.size());
+    for (final Actor actor : candidates) {
+      if (actor.lifeCycle.evictable.stop(config.lruThreshold())) {
+        evicted.add(actor.address());
+      } else {
+        directory.retainEvictionCandidate(actor);
+      }
+    }
+    logger().debug("Evicted {} actors :: {}", evicted.size(), evicted);
+
+    pendingEvictions -= candidates.size();
+
+    if (candidates.size() == batchSize && pendingEvictions > 0) {
+      // more are likely stale; continue with the next batch as a message of
+      // my own rather than waiting for the next probe or holding my thread
+      continuing = true;
+      selfAs(Scheduled.class).intervalSignal(scheduled, ContinueEvicting);
+    } else {
+      pendingEvictions = 0;
+    }
+  }
 }
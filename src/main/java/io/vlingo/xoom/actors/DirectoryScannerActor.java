@@ -55,7 +55,14 @@ public class DirectoryScannerActor extends Actor implements DirectoryScanner {
    * @return T
    */
   private <T> T internalActorOf(final Class<T> protocol, final Address address) {
-    final Actor actor = directory.actorOf(address);
+    Actor actor = directory.actorOf(address);
+
+    if (actor == null) {
+      final Definition passivated = directory.tombstoneOf(address);
+      if (passivated != null) {
+        actor = stage().actorLookupOrStartThunk(passivated, address);
+      }
+    }
 
     try {
       if (actor != null) {
@@ -0,0 +1,78 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+/**
+ * ElasticRouterSpecification is a {@link RouterSpecification} of a pool
+ * of routees that a {@link Router} grows and shrinks with their load,
+ * between a minimum and a maximum pool size. The pool starts at its
+ * minimum size, and the router probes its load while dispatching, at
+ * most once per probe interval.
+ * <p>
+ * When the mean number of pending messages per routee is at or above the
+ * scale-up depth, enough routees are spawned to bring it below. When no
+ * routee has pending messages, one spawned routee to which nothing was
+ * routed since the previous probe is retired. After each resize the pool
+ * is unchanged for the cooldown. Routees that are subscribed explicitly
+ * are never retired.
+ */
+public class ElasticRouterSpecification<P> extends RouterSpecification<P> {
+  public static final long DefaultCooldownMillis = 1_000L;
+  public static final long DefaultProbeIntervalMillis = 100L;
+  public static final int DefaultScaleUpDepth = 16;
+
+  private final long cooldownMillis;
+  private final int maximumPoolSize;
+  private final long probeIntervalMillis;
+  private final int scaleUpDepth;
+
+  public ElasticRouterSpecification(final int minimumPoolSize, final int maximumPoolSize, final Definition routerDefinition, final Class<P> routerProtocol) {
+    this(minimumPoolSize, maximumPoolSize, DefaultScaleUpDepth, DefaultCooldownMillis, DefaultProbeIntervalMillis, routerDefinition, routerProtocol);
+  }
+
+  public ElasticRouterSpecification(
+          final int minimumPoolSize,
+          final int maximumPoolSize,
+          final int scaleUpDepth,
+          final long cooldownMillis,
+          final long probeIntervalMillis,
+          final Definition routerDefinition,
+          final Class<P> routerProtocol) {
+    super(minimumPoolSize, routerDefinition, routerProtocol);
+    if (maximumPoolSize < minimumPoolSize || maximumPoolSize == 0)
+      throw new IllegalArgumentException("maximumPoolSize must be greater than 0 and not less than minimumPoolSize");
+    if (scaleUpDepth <= 0)
+      throw new IllegalArgumentException("scaleUpDepth must be greater than 0");
+    if (cooldownMillis < 0 || probeIntervalMillis < 0)
+      throw new IllegalArgumentException("cooldownMillis and probeIntervalMillis must be 0 or greater");
+    this.maximumPoolSize = maximumPoolSize;
+    this.scaleUpDepth = scaleUpDepth;
+    this.cooldownMillis = cooldownMillis;
+    this.probeIntervalMillis = probeIntervalMillis;
+  }
+
+  public long cooldownMillis() {
+    return cooldownMillis;
+  }
+
+  public int maximumPoolSize() {
+    return maximumPoolSize;
+  }
+
+  public int minimumPoolSize() {
+    return initialPoolSize();
+  }
+
+  public long probeIntervalMillis() {
+    return probeIntervalMillis;
+  }
+
+  public int scaleUpDepth() {
+    return scaleUpDepth;
+  }
+}
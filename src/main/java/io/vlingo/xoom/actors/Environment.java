@@ -7,28 +7,45 @@
 
 package io.vlingo.xoom.actors;
 
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicBoolean;
-
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * The runtime context of an {@code Actor}. Because a {@code Stage} may hold millions
+ * of actors, the parts that most actors never use are allocated only on first use:
+ * the children queue, the failure mark, the proxies beyond the first, and the logger
+ * adapter. (INTERNAL ONLY)
+ */
 public class Environment {
+  private static final AtomicIntegerFieldUpdater<Environment> StoppedUpdater =
+          AtomicIntegerFieldUpdater.newUpdater(Environment.class, "stopped");
+
   final Address address;
-  final ConcurrentLinkedQueue<Actor> children;
+  volatile ConcurrentLinkedQueue<Actor> children;
   Address completesEventuallyAddress;
   final Definition definition;
-  final FailureMark failureMark;
-  final Logger logger;
   final Mailbox mailbox;
   final Supervisor maybeSupervisor;
   final Actor parent;
-  final Map<String,Object> proxyCache;
   final Stage stage;
 //  final Stowage stowage;
 //  final Stowage suspended;
 
-  private final AtomicBoolean secured;
-  private final AtomicBoolean stopped;
+  private volatile FailureMark failureMark;
+  private final Logger logger;
+  private Logger actorLogger;
+
+  // the first proxy, which for most actors is the only one, and any others
+  private volatile Object proxy;
+  private volatile Class<?> proxyProtocol;
+  private volatile Map<Class<?>, Object> proxies;
+
+  private volatile boolean secured;
+  private volatile int stopped;
 
   private Class<?>[] stowageOverrides;
 
@@ -59,27 +76,74 @@ public class Environment {
     assert(mailbox != null);
     this.mailbox = mailbox;
     this.maybeSupervisor = maybeSupervisor;
-    this.failureMark = new FailureMark();
     this.logger = logger;
-    this.children = new ConcurrentLinkedQueue<>();
-    this.proxyCache = new HashMap<>(1);
 //    this.stowage = new Stowage();
     this.stowageOverrides = null;
 //    this.suspended = new Stowage();
 
-    this.secured = new AtomicBoolean(false);
-    this.stopped = new AtomicBoolean(false);
+    this.secured = false;
+    this.stopped = 0;
   }
 
   void addChild(final Actor child) {
-    children.add(child);
+    ConcurrentLinkedQueue<Actor> current = children;
+    if (current == null) {
+      synchronized (this) {
+        current = children;
+        if (current == null) {
+          current = new ConcurrentLinkedQueue<>();
+          children = current;
+        }
+      }
+    }
+    current.add(child);
   }
 
   void removeChild(final Actor child) {
-    children.remove(child);
+    final ConcurrentLinkedQueue<Actor> current = children;
+    if (current != null) {
+      current.remove(child);
+    }
+  }
+
+  Collection<Actor> children() {
+    final ConcurrentLinkedQueue<Actor> current = children;
+    return current == null ? Collections.emptyList() : current;
+  }
+
+  FailureMark failureMark() {
+    FailureMark current = failureMark;
+    if (current == null) {
+      synchronized (this) {
+        current = failureMark;
+        if (current == null) {
+          current = new FailureMark(stage.clock());
+          failureMark = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Answers my {@code Logger}, which identifies my {@code Actor} as the source of its
+   * events when there is a type of actor to identify.
+   * @return Logger
+   */
+  Logger logger() {
+    Logger current = actorLogger;
+    if (current == null) {
+      // a race creates equal adapters, either of which is correct
+      current = definition.type() == null ? logger : ActorLoggerAdapter.from(definition.type(), address, logger, stage.clock());
+      actorLogger = current;
+    }
+    return current;
   }
 
   CompletesEventually completesEventually(final ResultReturns result) {
+    if (stage.world().completesShardedBySender()) {
+      return stage.world().completesFor(address, result.clientReturns());
+    }
     if (completesEventuallyAddress == null) {
       final CompletesEventually completesEventually = stage.world().completesFor(result.clientReturns());
       completesEventuallyAddress = completesEventually.address();
@@ -88,25 +152,39 @@ public class Environment {
     return stage.world().completesFor(completesEventuallyAddress, result.clientReturns());
   }
 
-  <T> void cacheProxy(final T proxy) {
-    proxyCache.put(proxy.getClass().getName(), proxy);
+  <T> void cacheProxy(final Class<T> protocol, final T proxy) {
+    synchronized (this) {
+      if (proxyProtocol == null) {
+        this.proxy = proxy;
+        this.proxyProtocol = protocol; // published last; see lookUpProxy()
+      } else if (proxyProtocol != protocol) {
+        if (proxies == null) {
+          proxies = new ConcurrentHashMap<>(2);
+        }
+        proxies.putIfAbsent(protocol, proxy);
+      }
+    }
   }
 
   @SuppressWarnings("unchecked")
   <T> T lookUpProxy(final Class<T> protocol) {
-    return (T) proxyCache.get(protocol.getName());
+    if (proxyProtocol == protocol) {
+      return (T) proxy;
+    }
+    final Map<Class<?>, Object> others = proxies;
+    return others == null ? null : (T) others.get(protocol);
   }
 
   boolean isSecured() {
-    return secured.get();
+    return secured;
   }
 
   void setSecured() {
-    secured.set(true);
+    secured = true;
   }
 
   boolean isStopped() {
-    return stopped.get();
+    return stopped != 0;
   }
 
   void removeFromParent(Actor actor) {
@@ -116,7 +194,7 @@ public class Environment {
   }
 
   void stop() {
-    if (stopped.compareAndSet(false, true)) {
+    if (StoppedUpdater.compareAndSet(this, 0, 1)) {
       stopChildren();
 
 //      suspended.reset();
@@ -144,7 +222,10 @@ public class Environment {
 
   private void stopChildren() {
     // TODO: re-implement as: children.forEach(child -> selfAs(Stoppable.class).stop());
-    children.forEach(Actor::stop);
-    children.clear();
+    final ConcurrentLinkedQueue<Actor> current = children;
+    if (current != null) {
+      current.forEach(Actor::stop);
+      current.clear();
+    }
   }
 }
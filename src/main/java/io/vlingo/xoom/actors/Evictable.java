@@ -4,15 +4,22 @@ final class Evictable {
 
   final Actor actor;
 
+  private final Stage stage;
+  private final boolean evictable;
   private long activeOn;
 
-  Evictable(Actor actor) {
+  Evictable(Actor actor, Environment environment) {
     this.actor = actor;
-    this.activeOn = System.currentTimeMillis();
+    this.stage = environment.stage;
+    this.evictable = environment.definition.evictable;
+    this.activeOn = stage.clock().millis();
   }
 
   void receivedMessage() {
-    activeOn(System.currentTimeMillis());
+    // nothing reads the timestamp unless my stage evicts
+    if (evictable && stage.supportsEvictions()) {
+      activeOn(stage.clock().millis());
+    }
   }
 
   void activeOn(long activeOn) {
@@ -20,7 +27,7 @@ final class Evictable {
   }
 
   boolean stop(long thresholdMillis) {
-    return stop(System.currentTimeMillis(), thresholdMillis);
+    return stop(stage.clock().millis(), thresholdMillis);
   }
 
   boolean stop(long referenceMillis, long thresholdMillis) {
@@ -29,7 +36,7 @@ final class Evictable {
     final int pendingMessageCount = actor.lifeCycle.environment.mailbox.pendingMessages();
     if (isStale(referenceMillis, thresholdMillis)) {
       if (pendingMessageCount == 0) {
-        actor.selfAs(Stoppable.class).stop();
+        actor.lifeCycle.environment.stage.passivate(actor);
         return true;
       }
       else {
@@ -42,7 +49,7 @@ final class Evictable {
   }
 
   boolean isStale(long thresholdMillis) {
-    return isStale(System.currentTimeMillis(), thresholdMillis);
+    return isStale(stage.clock().millis(), thresholdMillis);
   }
 
   boolean isStale(long referenceMillis, long thresholdMillis) {
@@ -0,0 +1,255 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A {@code ConcurrentMap} that grows by extendible hashing: the table of
+ * buckets doubles only in pointers, and a full bucket is split into two by
+ * copying its own elements. Growth never rehashes more than one bucket of at
+ * most {@code bucketCapacity} elements, and only writers to that bucket wait
+ * for the split. Readers never block. (INTERNAL ONLY)
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class ExtendibleHashMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+  private static final int MaximumDepth = 30;
+
+  private final int bucketCapacity;
+  private final float loadFactor;
+  private final int concurrencyLevel;
+
+  private volatile Bucket<K, V>[] table;
+
+  ExtendibleHashMap(final int bucketCapacity, final float loadFactor, final int concurrencyLevel) {
+    this.bucketCapacity = Math.max(1, bucketCapacity);
+    this.loadFactor = loadFactor;
+    this.concurrencyLevel = concurrencyLevel;
+    this.table = newTable(1);
+    this.table[0] = new Bucket<>(0, newMap());
+  }
+
+  @Override
+  public V get(final Object key) {
+    final int hash = hash(key);
+    while (true) {
+      final Bucket<K, V> bucket = bucketOf(hash);
+      final V value = bucket.map.get(key);
+      if (!bucket.retired) {
+        return value;
+      }
+    }
+  }
+
+  @Override
+  public boolean containsKey(final Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public V put(final K key, final V value) {
+    return write(key, (map) -> map.put(key, value));
+  }
+
+  @Override
+  public V putIfAbsent(final K key, final V value) {
+    return write(key, (map) -> map.putIfAbsent(key, value));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V remove(final Object key) {
+    return write((K) key, (map) -> map.remove(key));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean remove(final Object key, final Object value) {
+    return write((K) key, (map) -> map.remove(key, value));
+  }
+
+  @Override
+  public boolean replace(final K key, final V oldValue, final V newValue) {
+    return write(key, (map) -> map.replace(key, oldValue, newValue));
+  }
+
+  @Override
+  public V replace(final K key, final V value) {
+    return write(key, (map) -> map.replace(key, value));
+  }
+
+  @Override
+  public V computeIfPresent(final K key, final BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+    return write(key, (map) -> map.computeIfPresent(key, remappingFunction));
+  }
+
+  @Override
+  public int size() {
+    return buckets().mapToInt(bucket -> bucket.map.size()).sum();
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new AbstractSet<Entry<K, V>>() {
+      @Override
+      public Iterator<Entry<K, V>> iterator() {
+        return buckets().flatMap(bucket -> bucket.map.entrySet().stream()).iterator();
+      }
+
+      @Override
+      public int size() {
+        return ExtendibleHashMap.this.size();
+      }
+    };
+  }
+
+  /**
+   * Answers the number of distinct buckets currently holding my elements.
+   * @return int
+   */
+  int bucketCount() {
+    return (int) buckets().count();
+  }
+
+  private Stream<Bucket<K, V>> buckets() {
+    final Bucket<K, V>[] current = table;
+    final List<Bucket<K, V>> distinct = new ArrayList<>();
+    for (int idx = 0; idx < current.length; ++idx) {
+      // a bucket of depth d is shared by all slots with the same low d bits
+      if (idx < (1 << current[idx].depth)) {
+        distinct.add(current[idx]);
+      }
+    }
+    return distinct.stream();
+  }
+
+  private Bucket<K, V> bucketOf(final int hash) {
+    final Bucket<K, V>[] current = table;
+    return current[hash & (current.length - 1)];
+  }
+
+  private <R> R write(final K key, final Function<ConcurrentHashMap<K, V>, R> operation) {
+    final int hash = hash(key);
+    while (true) {
+      final Bucket<K, V> bucket = bucketOf(hash);
+      final ReentrantReadWriteLock.ReadLock shared = bucket.lock.readLock();
+      shared.lock();
+      if (bucket.retired) {
+        shared.unlock();
+        continue;
+      }
+      final R result;
+      try {
+        result = operation.apply(bucket.map);
+      } finally {
+        shared.unlock();
+      }
+      if (bucket.map.size() > bucketCapacity && bucket.depth < MaximumDepth) {
+        split(bucket);
+      }
+      return result;
+    }
+  }
+
+  private synchronized void split(final Bucket<K, V> bucket) {
+    if (bucket.retired) {
+      return;
+    }
+
+    final ReentrantReadWriteLock.WriteLock exclusive = bucket.lock.writeLock();
+    exclusive.lock();
+    try {
+      if (bucket.map.size() <= bucketCapacity) {
+        return;
+      }
+
+      final int depth = bucket.depth;
+      final int bit = 1 << depth;
+      final Bucket<K, V> low = new Bucket<>(depth + 1, newMap());
+      final Bucket<K, V> high = new Bucket<>(depth + 1, newMap());
+
+      for (final Entry<K, V> entry : bucket.map.entrySet()) {
+        final Bucket<K, V> target = (hash(entry.getKey()) & bit) == 0 ? low : high;
+        target.map.put(entry.getKey(), entry.getValue());
+      }
+
+      final Bucket<K, V>[] current = table;
+      final Bucket<K, V>[] next;
+      if (bit == current.length) {
+        next = newTable(current.length * 2);
+        for (int idx = 0; idx < next.length; ++idx) {
+          next[idx] = current[idx & (current.length - 1)];
+        }
+      } else {
+        next = Arrays.copyOf(current, current.length);
+      }
+
+      for (int idx = 0; idx < next.length; ++idx) {
+        if (next[idx] == bucket) {
+          next[idx] = (idx & bit) == 0 ? low : high;
+        }
+      }
+
+      // retired before publishing, such that a reader that finds the bucket
+      // not yet retired cannot have missed a write made through the new table
+      bucket.retired = true;
+      table = next;
+    } finally {
+      exclusive.unlock();
+    }
+  }
+
+  private ConcurrentHashMap<K, V> newMap() {
+    // sized to hold a full bucket so that it never rehashes before splitting
+    return new ConcurrentHashMap<>(bucketCapacity + 1, loadFactor, concurrencyLevel);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Bucket<K, V>[] newTable(final int length) {
+    return new Bucket[length];
+  }
+
+  private static int hash(final Object key) {
+    // full avalanche, because the low bits of keys are often already
+    // fixed by an enclosing modulo, such as the buckets of Directory
+    int hash = key.hashCode();
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+    return hash;
+  }
+
+  private static final class Bucket<K, V> {
+    final int depth;
+    final ConcurrentHashMap<K, V> map;
+    final ReentrantReadWriteLock lock;
+    volatile boolean retired;
+
+    Bucket(final int depth, final ConcurrentHashMap<K, V> map) {
+      this.depth = depth;
+      this.map = map;
+      this.lock = new ReentrantReadWriteLock();
+      this.retired = false;
+    }
+  }
+}
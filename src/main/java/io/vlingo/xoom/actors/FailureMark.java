@@ -11,11 +11,18 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class FailureMark {
-  private AtomicLong startOfPeriod;
-  private AtomicInteger timedIntensity;
+  private final CoarseClock clock;
+  private final AtomicLong startOfPeriod;
+  private final AtomicInteger timedIntensity;
 
   public FailureMark() {
-    reset();
+    this(CoarseClock.system());
+  }
+
+  public FailureMark(final CoarseClock clock) {
+    this.clock = clock;
+    this.startOfPeriod = new AtomicLong(0);
+    this.timedIntensity = new AtomicInteger(0);
   }
 
   boolean failedWithExcessiveFailures(final long period, final int intensity) {
@@ -25,7 +32,7 @@ public class FailureMark {
       return true;
     }
 
-    final long currentTime = System.currentTimeMillis();
+    final long currentTime = clock.millis();
 
     if (startOfPeriod.get() == 0) {
       startOfPeriod.set(currentTime);
@@ -47,7 +54,7 @@ public class FailureMark {
   }
 
   void reset() {
-    startOfPeriod = new AtomicLong(0);
-    timedIntensity = new AtomicInteger(0);
+    startOfPeriod.set(0);
+    timedIntensity.set(0);
   }
 }
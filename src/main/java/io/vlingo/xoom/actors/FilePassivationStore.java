@@ -0,0 +1,76 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * The {@code PassivationStore} that keeps each state snapshot in its own file below
+ * {@code root}, using Java serialization, so that passivated state occupies no heap.
+ * Files are spread over 256 subdirectories by {@code Address} hash. A snapshot is
+ * written to a temporary file that is then moved into place, so that a partially
+ * written snapshot is never restored.
+ */
+public class FilePassivationStore implements PassivationStore {
+  private final Path root;
+
+  public FilePassivationStore(final Path root) {
+    this.root = root;
+  }
+
+  @Override
+  public void store(final Address address, final Object stateSnapshot) {
+    final Path path = pathOf(address);
+    try {
+      Files.createDirectories(path.getParent());
+      final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+      try (final OutputStream file = Files.newOutputStream(temporary);
+           final ObjectOutputStream output = new ObjectOutputStream(new BufferedOutputStream(file))) {
+        output.writeObject(stateSnapshot);
+      }
+      Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot passivate state of: " + address + " because: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public Object restore(final Address address) {
+    final Path path = pathOf(address);
+    final Object stateSnapshot;
+    try (final InputStream file = Files.newInputStream(path);
+         final ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(file))) {
+      stateSnapshot = input.readObject();
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException | ClassNotFoundException e) {
+      throw new IllegalStateException("Cannot restore passivated state of: " + address + " because: " + e.getMessage(), e);
+    }
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot remove passivated state of: " + address + " because: " + e.getMessage(), e);
+    }
+    return stateSnapshot;
+  }
+
+  private Path pathOf(final Address address) {
+    final String segment = String.format("%02x", address.hashCode() & 0xff);
+    return root.resolve(segment).resolve(address.idString());
+  }
+}
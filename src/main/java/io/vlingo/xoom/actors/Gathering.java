@@ -0,0 +1,106 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Gathering defines how the replies to a query scattered by a {@link ScatterGatherRouter}
+ * are gathered into the single outcome of the query: the first reply, the reduction of a
+ * quorum of replies, or the reduction of all replies. A query that has not gathered its
+ * outcome {@link #within(long, Object)} a timeout completes with the timed out outcome.
+ * Once the outcome is gathered, the replies of any stragglers are discarded. A query that
+ * is scattered to no routees, or whose failed replies leave too few for its required replies,
+ * completes at once with the timed out outcome.
+ * @param <O> the type of the outcome
+ */
+public final class Gathering<O> {
+  private static final int All = Integer.MAX_VALUE;
+
+  /**
+   * Answers the {@code Gathering<O>} whose outcome is the first reply.
+   * @param <O> the type of the outcome
+   * @return {@code Gathering<O>}
+   */
+  public static <O> Gathering<O> first() {
+    return new Gathering<>(1, replies -> replies.get(0), 0, null);
+  }
+
+  /**
+   * Answers the {@code Gathering<O>} whose outcome is the {@code reduction} of the first
+   * {@code required} replies, or of all replies when fewer than {@code required} were scattered.
+   * @param required the int number of replies of the quorum, which must be greater than zero
+   * @param reduction the {@code Function<List<O>, O>} reducing the replies of the quorum to the outcome
+   * @param <O> the type of the outcome
+   * @return {@code Gathering<O>}
+   */
+  public static <O> Gathering<O> quorum(final int required, final Function<List<O>, O> reduction) {
+    if (required <= 0) {
+      throw new IllegalArgumentException("Quorum must be greater than zero.");
+    }
+    return new Gathering<>(required, reduction, 0, null);
+  }
+
+  /**
+   * Answers the {@code Gathering<O>} whose outcome is the {@code reduction} of all replies.
+   * @param reduction the {@code Function<List<O>, O>} reducing all replies to the outcome
+   * @param <O> the type of the outcome
+   * @return {@code Gathering<O>}
+   */
+  public static <O> Gathering<O> all(final Function<List<O>, O> reduction) {
+    return new Gathering<>(All, reduction, 0, null);
+  }
+
+  private final Function<List<O>, O> reduction;
+  private final int required;
+  private final O timedOutOutcome;
+  private final long timeout;
+
+  private Gathering(final int required, final Function<List<O>, O> reduction, final long timeout, final O timedOutOutcome) {
+    this.required = required;
+    this.reduction = reduction;
+    this.timeout = timeout;
+    this.timedOutOutcome = timedOutOutcome;
+  }
+
+  /**
+   * Answers a copy of me that completes with {@code timedOutOutcome} unless my outcome is
+   * gathered within {@code timeout} milliseconds.
+   * @param timeout the long milliseconds to wait for the outcome, which must be greater than zero
+   * @param timedOutOutcome the O outcome when timed out, which may be null
+   * @return {@code Gathering<O>}
+   */
+  public Gathering<O> within(final long timeout, final O timedOutOutcome) {
+    if (timeout <= 0) {
+      throw new IllegalArgumentException("Timeout must be greater than zero.");
+    }
+    return new Gathering<>(required, reduction, timeout, timedOutOutcome);
+  }
+
+  /**
+   * Answers the number of replies required of {@code scattered} replies.
+   * @param scattered the int number of routees the query was sent to
+   * @return int
+   */
+  int required(final int scattered) {
+    return Math.min(required, scattered);
+  }
+
+  O reduce(final List<O> replies) {
+    return reduction.apply(replies);
+  }
+
+  O timedOutOutcome() {
+    return timedOutOutcome;
+  }
+
+  long timeout() {
+    return timeout;
+  }
+}
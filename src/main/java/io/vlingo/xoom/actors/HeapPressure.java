@@ -0,0 +1,156 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+
+/**
+ * Measures and signals heap pressure from the long-lived heap pools, which are
+ * those that support a collection usage threshold (the old generation of the
+ * common collectors). Their usage after the most recent collection excludes the
+ * garbage of allocation spikes, and so reflects the occupancy that eviction can
+ * actually reduce. (INTERNAL ONLY)
+ */
+final class HeapPressure implements NotificationListener {
+  private final float highMark;
+  private final Runnable onPressure;
+  private final List<MemoryPoolMXBean> pools;
+
+  // The collection usage threshold of each of my pools before and after my
+  // start(), which are JVM-wide, by which close() restores the previous one.
+  private final long[] appliedThresholds;
+  private final long[] previousThresholds;
+
+  /**
+   * Answers a new {@code HeapPressure} that runs {@code onPressure} on a JMX notification
+   * thread whenever a tenured pool is above {@code highMark} of its maximum after a collection.
+   * @param highMark the float ratio of used to maximum memory above which there is pressure
+   * @param onPressure the Runnable to run when pressure is signaled
+   * @return HeapPressure
+   */
+  static HeapPressure listen(final float highMark, final Runnable onPressure) {
+    final HeapPressure heapPressure = new HeapPressure(highMark, onPressure);
+    heapPressure.start();
+    return heapPressure;
+  }
+
+  /**
+   * Answers a new {@code HeapPressure} that only measures.
+   * @param highMark the float ratio of used to maximum memory above which there is pressure
+   * @return HeapPressure
+   */
+  static HeapPressure measure(final float highMark) {
+    return new HeapPressure(highMark, null);
+  }
+
+  /**
+   * Answers the highest ratio of used to maximum memory of my pools following their most
+   * recent collection, or of the whole heap when there are no such pools or collections yet.
+   * @return float
+   */
+  float usedRatio() {
+    float ratio = -1;
+    for (final MemoryPoolMXBean pool : pools) {
+      final MemoryUsage usage = pool.getCollectionUsage();
+      if (usage != null && usage.getUsed() > 0) {
+        ratio = Math.max(ratio, usage.getUsed() / (float) capacityOf(usage));
+      }
+    }
+
+    if (ratio < 0) {
+      final Runtime runtime = Runtime.getRuntime();
+      ratio = (runtime.totalMemory() - runtime.freeMemory()) / (float) runtime.maxMemory();
+    }
+
+    return ratio;
+  }
+
+  /**
+   * Answers whether my {@code usedRatio()} is at or above my high mark.
+   * @return boolean
+   */
+  boolean isUnderPressure() {
+    return usedRatio() >= highMark;
+  }
+
+  /**
+   * Stops signaling pressure, and restores the previous collection usage threshold
+   * of each of my pools unless it has since been changed by another.
+   */
+  void close() {
+    if (onPressure == null) {
+      return;
+    }
+    try {
+      ((NotificationEmitter) ManagementFactory.getMemoryMXBean()).removeNotificationListener(this);
+    } catch (ListenerNotFoundException e) {
+      // already removed
+    }
+    for (int index = 0; index < pools.size(); ++index) {
+      final MemoryPoolMXBean pool = pools.get(index);
+      if (pool.getCollectionUsageThreshold() == appliedThresholds[index]) {
+        pool.setCollectionUsageThreshold(previousThresholds[index]);
+      }
+    }
+  }
+
+  @Override
+  public void handleNotification(final Notification notification, final Object handback) {
+    if (MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType())) {
+      onPressure.run();
+    }
+  }
+
+  private HeapPressure(final float highMark, final Runnable onPressure) {
+    this.highMark = highMark;
+    this.onPressure = onPressure;
+    this.pools = tenuredPools();
+    this.appliedThresholds = new long[pools.size()];
+    this.previousThresholds = new long[pools.size()];
+  }
+
+  private void start() {
+    for (int index = 0; index < pools.size(); ++index) {
+      final MemoryPoolMXBean pool = pools.get(index);
+      final long capacity = capacityOf(pool.getUsage());
+      // keep any lower threshold already set by another stage of this process
+      final long threshold = (long) (capacity * highMark);
+      final long current = pool.getCollectionUsageThreshold();
+      final long applied = current > 0 ? Math.min(current, threshold) : threshold;
+      pool.setCollectionUsageThreshold(applied);
+      previousThresholds[index] = current;
+      appliedThresholds[index] = applied;
+    }
+    ((NotificationEmitter) ManagementFactory.getMemoryMXBean()).addNotificationListener(this, null, null);
+  }
+
+  private static long capacityOf(final MemoryUsage usage) {
+    return Math.max(1, usage.getMax() > 0 ? usage.getMax() : usage.getCommitted());
+  }
+
+  private static List<MemoryPoolMXBean> tenuredPools() {
+    final List<MemoryPoolMXBean> tenured = new ArrayList<>();
+    for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported() && pool.isUsageThresholdSupported()) {
+        tenured.add(pool);
+      }
+    }
+    return tenured;
+  }
+}
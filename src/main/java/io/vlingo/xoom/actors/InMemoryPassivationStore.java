@@ -0,0 +1,37 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code PassivationStore} that keeps state snapshots on the heap, which frees
+ * the memory of each passivated {@code Actor} and its {@code Mailbox} but not of its state.
+ */
+public class InMemoryPassivationStore implements PassivationStore {
+  private final Map<Address, Object> snapshots = new ConcurrentHashMap<>();
+
+  @Override
+  public void store(final Address address, final Object stateSnapshot) {
+    snapshots.put(address, stateSnapshot);
+  }
+
+  @Override
+  public Object restore(final Address address) {
+    return snapshots.remove(address);
+  }
+
+  /**
+   * Answers the number of stored snapshots.
+   * @return int
+   */
+  public int size() {
+    return snapshots.size();
+  }
+}
@@ -65,7 +65,7 @@ final class LifeCycle {
     try {
       actor.afterStop();
     } catch (Throwable t) {
-      environment.logger.error("XOOM: Actor afterStop() failed: " + t.getMessage(), t);
+      environment.logger().error("XOOM: Actor afterStop() failed: " + t.getMessage(), t);
       environment.stage.handleFailureOf(new StageSupervisedActor(Stoppable.class, actor, t));
     }
   }
@@ -74,7 +74,7 @@ final class LifeCycle {
     try {
       actor.beforeStart();
     } catch (Throwable t) {
-      environment.logger.error("XOOM: Actor beforeStart() failed: " + t.getMessage());
+      environment.logger().error("XOOM: Actor beforeStart() failed: " + t.getMessage());
       environment.stage.handleFailureOf(new StageSupervisedActor(Startable.class, actor, t));
     }
   }
@@ -83,7 +83,7 @@ final class LifeCycle {
     try {
       actor.afterRestart(throwable);
     } catch (Throwable t) {
-      environment.logger.error("XOOM: Actor beforeStart() failed: " + t.getMessage());
+      environment.logger().error("XOOM: Actor beforeStart() failed: " + t.getMessage());
       environment.stage.handleFailureOf(new StageSupervisedActor(Startable.class, actor, t));
     }
   }
@@ -92,7 +92,7 @@ final class LifeCycle {
     try {
       actor.beforeRestart(reason);
     } catch (Throwable t) {
-      environment.logger.error("XOOM: Actor beforeRestart() failed: " + t.getMessage());
+      environment.logger().error("XOOM: Actor beforeRestart() failed: " + t.getMessage());
       environment.stage.handleFailureOf(new StageSupervisedActor(protocol, actor, t));
     }
   }
@@ -101,7 +101,7 @@ final class LifeCycle {
     try {
       actor.beforeResume(reason);
     } catch (Throwable t) {
-      environment.logger.error("XOOM: Actor beforeResume() failed: " + t.getMessage());
+      environment.logger().error("XOOM: Actor beforeResume() failed: " + t.getMessage());
       environment.stage.handleFailureOf(new StageSupervisedActor(protocol, actor, t));
     }
   }
@@ -116,7 +116,7 @@ final class LifeCycle {
         environment.mailbox.send(targetActor, Startable.class, consumer, null, "start()");
       }
     } catch (Throwable t) {
-      environment.logger.error("XOOM: Actor start() failed: " + t.getMessage());
+      environment.logger().error("XOOM: Actor start() failed: " + t.getMessage());
       environment.stage.handleFailureOf(new StageSupervisedActor(Startable.class, targetActor, t));
     }
   }
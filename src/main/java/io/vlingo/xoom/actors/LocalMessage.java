@@ -107,6 +107,15 @@ public class LocalMessage<T> implements Message {
     }
   }
 
+  private void completeDirectly() {
+    try {
+      actor.returns.clientReturns().completeWith(actor.returns.__internal__outcome);
+    } catch (Throwable t) {
+      // a failure of the client is not a failure of the actor
+      actor.logger().error("The directly completed outcome failed in the client because: " + t.getMessage(), t);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   private void internalDeliver(final Message message) {
     if (actor.isStopped()) {
@@ -121,6 +130,12 @@ public class LocalMessage<T> implements Message {
         consumer.accept((T) actor);
         actor.lifeCycle.evictable.receivedMessage();
         if (actor.returns.__internal__outcomeSet) {
+          if (actor.lifeCycle.environment.stage.completesDirectly()) {
+            // only this actor's delivering thread completes its outcomes, so
+            // clients still see them in the order of the original causes.
+            completeDirectly();
+            return;
+          }
           // USE THE FOLLOWING. this forces the same ce actor to be used for
           // all completes outcomes such that completes outcomes cannot be
           // delivered to the client out of order from the original ordered causes.
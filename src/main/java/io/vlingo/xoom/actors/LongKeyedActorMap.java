@@ -0,0 +1,213 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiFunction;
+
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * A {@code ConcurrentMap} of {@code Actor} instances keyed by the primitive
+ * {@code long} of their {@code Address#id()}, which is meaningful only for
+ * {@code BasicAddress}. Elements are held in an open-addressing
+ * {@code Long2ObjectHashMap} guarded by a {@code StampedLock}, so that there is
+ * no node per element and no {@code Address#equals()} per probe. Reads are
+ * optimistic and fall back to the read lock only when a writer intervened.
+ * Keys are answered from {@code Actor#address()}. (INTERNAL ONLY)
+ */
+final class LongKeyedActorMap extends AbstractMap<Address, Actor> implements ConcurrentMap<Address, Actor> {
+  private final Long2ObjectHashMap<Actor> actors;
+  private final StampedLock lock;
+
+  LongKeyedActorMap(final int initialCapacity, final float loadFactor) {
+    this.actors = new Long2ObjectHashMap<>(initialCapacity, loadFactor);
+    this.lock = new StampedLock();
+  }
+
+  @Override
+  public Actor get(final Object key) {
+    final long id = idOf(key);
+
+    final long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        final Actor actor = actors.get(id);
+        if (lock.validate(stamp)) {
+          return actor;
+        }
+      } catch (RuntimeException e) {
+        // torn by a concurrent write; retry under the read lock
+      }
+    }
+
+    final long readStamp = lock.readLock();
+    try {
+      return actors.get(id);
+    } finally {
+      lock.unlockRead(readStamp);
+    }
+  }
+
+  @Override
+  public boolean containsKey(final Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public Actor put(final Address key, final Actor value) {
+    final long stamp = lock.writeLock();
+    try {
+      return actors.put(idOf(key), Objects.requireNonNull(value));
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public Actor putIfAbsent(final Address key, final Actor value) {
+    final long id = idOf(key);
+    final long stamp = lock.writeLock();
+    try {
+      final Actor existing = actors.get(id);
+      if (existing == null) {
+        actors.put(id, Objects.requireNonNull(value));
+      }
+      return existing;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public Actor remove(final Object key) {
+    final long stamp = lock.writeLock();
+    try {
+      return actors.remove(idOf(key));
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean remove(final Object key, final Object value) {
+    final long id = idOf(key);
+    final long stamp = lock.writeLock();
+    try {
+      final Actor existing = actors.get(id);
+      if (existing != null && existing.equals(value)) {
+        actors.remove(id);
+        return true;
+      }
+      return false;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean replace(final Address key, final Actor oldValue, final Actor newValue) {
+    final long id = idOf(key);
+    final long stamp = lock.writeLock();
+    try {
+      final Actor existing = actors.get(id);
+      if (existing != null && existing.equals(oldValue)) {
+        actors.put(id, Objects.requireNonNull(newValue));
+        return true;
+      }
+      return false;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public Actor replace(final Address key, final Actor value) {
+    final long id = idOf(key);
+    final long stamp = lock.writeLock();
+    try {
+      return actors.containsKey(id) ? actors.put(id, Objects.requireNonNull(value)) : null;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public Actor computeIfPresent(final Address key, final BiFunction<? super Address, ? super Actor, ? extends Actor> remappingFunction) {
+    final long id = idOf(key);
+    final long stamp = lock.writeLock();
+    try {
+      final Actor existing = actors.get(id);
+      if (existing == null) {
+        return null;
+      }
+      final Actor remapped = remappingFunction.apply(key, existing);
+      if (remapped == null) {
+        actors.remove(id);
+      } else {
+        actors.put(id, remapped);
+      }
+      return remapped;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public int size() {
+    final long stamp = lock.readLock();
+    try {
+      return actors.size();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Answers a snapshot of my elements, which is consistent at the time of the request.
+   * @return {@code Set<Entry<Address, Actor>>}
+   */
+  @Override
+  public Set<Entry<Address, Actor>> entrySet() {
+    final List<Entry<Address, Actor>> entries;
+
+    final long stamp = lock.readLock();
+    try {
+      entries = new ArrayList<>(actors.size());
+      for (final Actor actor : actors.values()) {
+        entries.add(new SimpleImmutableEntry<>(actor.address(), actor));
+      }
+    } finally {
+      lock.unlockRead(stamp);
+    }
+
+    return new AbstractSet<Entry<Address, Actor>>() {
+      @Override
+      public Iterator<Entry<Address, Actor>> iterator() {
+        return entries.iterator();
+      }
+
+      @Override
+      public int size() {
+        return entries.size();
+      }
+    };
+  }
+
+  private static long idOf(final Object key) {
+    return ((Address) key).id();
+  }
+}
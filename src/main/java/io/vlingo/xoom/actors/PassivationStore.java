@@ -0,0 +1,32 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+/**
+ * The store of {@code Actor} state snapshots that are captured by passivation and
+ * restored by reactivation. A snapshot is the answer of {@code Actor#stateSnapshot()},
+ * and is given back to the reactivated {@code Actor} by {@code Actor#stateSnapshot(S)}
+ * before it receives any other message.
+ */
+public interface PassivationStore {
+  /**
+   * Stores the {@code stateSnapshot} of the passivated {@code Actor} of {@code address},
+   * replacing any that was previously stored.
+   * @param address the Address of the passivated Actor
+   * @param stateSnapshot the Object state snapshot of the passivated Actor, which is never null
+   */
+  void store(final Address address, final Object stateSnapshot);
+
+  /**
+   * Answers and removes the state snapshot of the {@code Actor} of {@code address},
+   * or {@code null} if there is none.
+   * @param address the Address of the reactivated Actor
+   * @return Object
+   */
+  Object restore(final Address address);
+}
@@ -32,6 +32,13 @@ public class PooledCompletes implements CompletesEventually {
     return outcome;
   }
 
+  /**
+   * Completes the client's {@code Returns} with my outcome. (INTERNAL ONLY)
+   */
+  public void completeClient() {
+    clientReturns.completeWith(outcome);
+  }
+
   @Override
   public void with(final Object outcome) {
     this.outcome = outcome;
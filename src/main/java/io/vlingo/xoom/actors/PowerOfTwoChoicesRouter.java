@@ -0,0 +1,56 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.List;
+import java.util.Random;
+/**
+ * PowerOfTwoChoicesRouter routes each message to the routee with the fewer pending
+ * messages of two routees chosen at random. Unlike the {@link SmallestMailboxRouter},
+ * which inspects every routee on every message, the cost of routing is independent of
+ * the number of routees, while the load is still balanced nearly as well.
+ */
+public class PowerOfTwoChoicesRouter<P> extends Router<P> {
+
+  private final Random random;
+
+  public PowerOfTwoChoicesRouter(final RouterSpecification<P> specification) {
+    this(specification, new Random(System.currentTimeMillis()));
+  }
+
+  PowerOfTwoChoicesRouter(final RouterSpecification<P> specification, final Random seededRandom) {
+    super(specification);
+    this.random = seededRandom;
+  }
+
+  /* @see io.vlingo.xoom.actors.Router#computeRouting() */
+  @Override
+  protected Routing<P> computeRouting() {
+    return Routing.with(nextRoutee());
+  }
+
+  protected Routee<P> nextRoutee() {
+    final List<Routee<P>> routees = routees();
+    final int size = routees.size();
+
+    if (size < 2) {
+      return size == 0 ? null : routees.get(0);
+    }
+
+    final int first = random.nextInt(size);
+    int second = random.nextInt(size - 1);
+    if (second >= first) {
+      ++second;
+    }
+
+    final Routee<P> firstRoutee = routees.get(first);
+    final Routee<P> secondRoutee = routees.get(second);
+
+    return secondRoutee.pendingMessages() < firstRoutee.pendingMessages() ? secondRoutee : firstRoutee;
+  }
+}
@@ -62,6 +62,25 @@ public class ProxyGenerator implements AutoCloseable {
     }
   }
 
+  /**
+   * The generated classes that implement a protocol by handing each message to a delegate,
+   * which either answers the proxy of the {@code Actor} to send it to or enqueues it itself,
+   * rather than by sending it to a {@code Mailbox}, and the type of their delegate. (INTERNAL ONLY)
+   */
+  enum Delegation {
+    Balancing("__BalancingProxy", BalancingPool.class),
+    Routing("__RoutingProxy", RoutingProxy.class),
+    Virtual("__VirtualProxy", VirtualActorProxy.class);
+
+    final Class<?> delegator;
+    final String postfix;
+
+    Delegation(final String postfix, final Class<?> delegator) {
+      this.postfix = postfix;
+      this.delegator = delegator;
+    }
+  }
+
   private final Logger logger;
   private final boolean persist;
   private final File rootOfGenerated;
@@ -108,6 +127,37 @@ public class ProxyGenerator implements AutoCloseable {
     }
   }
 
+  /**
+   * Answers the {@code Result} of generating the virtual proxy class of {@code actorProtocol},
+   * which sends each message through the proxy of the {@code Actor} activated by its
+   * {@code VirtualActorProxy}.
+   * @param actorProtocol the String fully qualified name of the protocol
+   * @return Result
+   */
+  public Result generateVirtualFor(final String actorProtocol) {
+    return generateDelegatingFor(actorProtocol, Delegation.Virtual);
+  }
+
+  /**
+   * Answers the {@code Result} of generating the routing proxy class of {@code actorProtocol},
+   * which sends each message through the proxy of the routee selected by its {@code RoutingProxy}.
+   * @param actorProtocol the String fully qualified name of the protocol
+   * @return Result
+   */
+  public Result generateRoutingFor(final String actorProtocol) {
+    return generateDelegatingFor(actorProtocol, Delegation.Routing);
+  }
+
+  /**
+   * Answers the {@code Result} of generating the balancing proxy class of {@code actorProtocol},
+   * which enqueues each message with its {@code BalancingPool} for the next idle worker.
+   * @param actorProtocol the String fully qualified name of the protocol
+   * @return Result
+   */
+  public Result generateBalancingFor(final String actorProtocol) {
+    return generateDelegatingFor(actorProtocol, Delegation.Balancing);
+  }
+
   DynaType type() {
     return type;
   }
@@ -225,7 +275,14 @@ public class ProxyGenerator implements AutoCloseable {
       .append("import io.vlingo.xoom.actors.Returns;").append("\n")
       .append("import io.vlingo.xoom.common.Completes;").append("\n")
       .append("import io.vlingo.xoom.common.SerializableConsumer;").append("\n")
-      .append("import ").append(protocolInterface.getCanonicalName()).append(";\n");
+      .append("import ").append(protocolInterface.getCanonicalName()).append(";\n")
+      .append(dependencyImportStatements(protocolInterface));
+
+    return builder.toString();
+  }
+
+  private String dependencyImportStatements(final Class<?> protocolInterface) {
+    final StringBuilder builder = new StringBuilder();
 
     GenericParser.dependenciesOf(protocolInterface)
             .filter(d -> !d.startsWith(GENERICS_WILDCARD))
@@ -460,6 +517,151 @@ public class ProxyGenerator implements AutoCloseable {
       return returnType;
   }
 
+  private String delegatingClassSource(final Class<?> protocolInterface, final Delegation delegation) {
+    final String classname = classnameFor(protocolInterface, delegation.postfix);
+    final boolean addressable = delegation == Delegation.Virtual;
+
+    final String typeParameters =
+            Arrays.stream(protocolInterface.getTypeParameters())
+                    .flatMap(type -> GenericParser.typeToGenericString(new HashSet<>(), type))
+                    .collect(Collectors.joining(", ", "<", ">"))
+                    .replace("<>", "");
+
+    final String protocolType =
+            protocolInterface.getSimpleName() +
+            Arrays.stream(protocolInterface.getTypeParameters())
+                    .flatMap(GenericParser::genericReferencesOf)
+                    .collect(Collectors.joining(", ", "<", ">"))
+                    .replace("<>", "");
+
+    final String delegateType =
+            delegation.delegator.getSimpleName() + (delegation.delegator.getTypeParameters().length == 0 ? "" : "<?>");
+
+    final StringBuilder builder = new StringBuilder();
+
+    builder
+      .append(packageStatement(protocolInterface)).append("\n\n")
+      .append(addressable ? "import io.vlingo.xoom.actors.Address;\n" : "")
+      .append(addressable ? "import io.vlingo.xoom.actors.Proxy;\n" : "")
+      .append("import ").append(delegation.delegator.getName()).append(";\n")
+      .append("import ").append(protocolInterface.getCanonicalName()).append(";\n")
+      .append(dependencyImportStatements(protocolInterface)).append("\n")
+      .append("@SuppressWarnings(\"unchecked\")").append("\n")
+      .append("public class ").append(classname).append(typeParameters)
+        .append(" implements ").append(protocolType).append(addressable ? ", Proxy" : "").append(" {\n\n")
+      .append("  private final ").append(delegateType).append(" delegate;\n\n")
+      .append("  public ").append(classname).append("(final ").append(delegateType).append(" delegate) {\n")
+      .append("    this.delegate = delegate;\n")
+      .append("  }\n");
+
+    if (addressable) {
+      builder
+        .append("\n  public Address address() {")
+        .append("\n    return delegate.address();")
+        .append("\n  }\n")
+        .append("\n  public boolean equals(final Object other) {")
+        .append("\n    if (this == other) return true;")
+        .append("\n    if (!(other instanceof Proxy)) return false;")
+        .append("\n    return address().equals(Proxy.from(other).address());")
+        .append("\n  }\n")
+        .append("\n  public int hashCode() {")
+        .append("\n    return address().hashCode();")
+        .append("\n  }\n");
+    }
+
+    builder
+      .append("\n  public String toString() {")
+      .append("\n    return delegate.toString();")
+      .append("\n  }\n");
+
+    for (final Method method : protocolInterface.getMethods()) {
+      if (!Modifier.isStatic(method.getModifiers())) {
+        builder.append(delegatingMethodDefinition(protocolType, method, delegation));
+      }
+    }
+
+    builder.append("}").append("\n");
+
+    return builder.toString();
+  }
+
+  private String delegatingMethodDefinition(final String protocolType, final Method method, final Delegation delegation) {
+    final StringBuilder builder = new StringBuilder();
+
+    final String methodSignature = MessageFormat.format("  public {0}{1} {2}{3}", GenericParser.genericTemplateOf(method), GenericParser.returnTypeOf(method), method.getName(), GenericParser.parametersTemplateOf(method));
+    final String returnKeyword = method.getReturnType() == void.class ? "" : "return ";
+    final String argumentNames = Arrays.stream(method.getParameters()).map(Parameter::getName).collect(Collectors.joining(", "));
+
+    if (delegation == Delegation.Balancing) {
+      return balancingMethodDefinition(protocolType, method, methodSignature, argumentNames);
+    }
+
+    final String delegateTarget;
+    switch (delegation) {
+    case Routing:
+      delegateTarget = "delegate.routeeFor(" + (argumentNames.isEmpty() ? "null" : "new Object[] { " + argumentNames + " }") + ")";
+      break;
+    default:
+      delegateTarget = "delegate.activated()";
+      break;
+    }
+
+    builder
+      .append("\n")
+      .append(methodSignature).append(throwsExceptions(method)).append(" {\n")
+      .append("    ").append(returnKeyword)
+        .append("((").append(protocolType).append(") ").append(delegateTarget).append(").")
+        .append(method.getName()).append("(").append(argumentNames).append(");\n")
+      .append("  }\n");
+
+    return builder.toString();
+  }
+
+  private String balancingMethodDefinition(final String protocolType, final Method method, final String methodSignature, final String argumentNames) {
+    final StringBuilder builder = new StringBuilder();
+
+    final String signatureReturnType = GenericParser.returnTypeOf(method);
+    final boolean isACompletes = signatureReturnType.startsWith("io.vlingo.xoom.common.Completes");
+    final String consumerStatement = MessageFormat.format("    final io.vlingo.xoom.common.SerializableConsumer<{0}> consumer = (actor) -> actor.{1}({2});", protocolType, method.getName(), argumentNames);
+    final String dispatch = MessageFormat.format("delegate.dispatch(consumer, \"{0}({1})\", {2})", method.getName(), parameterTypesFor(method), isACompletes);
+
+    builder
+      .append("\n")
+      .append(methodSignature).append(throwsExceptions(method)).append(" {\n");
+
+    if (method.getReturnType() == void.class) {
+      builder
+        .append(consumerStatement).append("\n")
+        .append("    ").append(dispatch).append(";\n");
+    } else if (isACompletes) {
+      builder
+        .append(consumerStatement).append("\n")
+        .append("    return (").append(signatureReturnType).append(") ").append(dispatch).append(";\n");
+    } else {
+      builder
+        .append("    throw new IllegalArgumentException(\"Balancing pool protocol method must answer void or Completes: ").append(method.getName()).append("\");\n");
+    }
+
+    builder.append("  }\n");
+
+    return builder.toString();
+  }
+
+  private Result generateDelegatingFor(final String actorProtocol, final Delegation delegation) {
+    logger.debug("XOOM: Generating " + delegation.postfix + " for " + (type == DynaType.Main ? "main":"test") + ": " + actorProtocol);
+
+    try {
+      final Class<?> protocolInterface = readProtocolInterface(actorProtocol);
+      final String proxyClassSource = delegatingClassSource(protocolInterface, delegation);
+      final String fullyQualifiedClassname = fullyQualifiedClassnameFor(protocolInterface, delegation.postfix);
+      final String relativeTargetFile = toFullPath(fullyQualifiedClassname);
+      final File sourceFile = persist ? persistProxyClassSource(actorProtocol, relativeTargetFile, proxyClassSource) : new File(relativeTargetFile);
+      return new Result(fullyQualifiedClassname, classnameFor(protocolInterface, delegation.postfix), proxyClassSource, sourceFile);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Cannot generate " + delegation.postfix + " class for: " + actorProtocol, e);
+    }
+  }
+
   private String throwsExceptions(final Method method) {
     final StringBuilder builder = new StringBuilder();
 
@@ -68,4 +68,19 @@ public class Returns<T> {
         }
         return (CompletableFuture<T>) value;
     }
+
+    /**
+     * Completes my value with the {@code outcome}, whichever kind of value it is.
+     * @param outcome the T outcome
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void completeWith(final T outcome) {
+        if (isCompletes()) {
+            asCompletes().with(outcome);
+        } else if (isCompletableFuture()) {
+            asCompletableFuture().complete(outcome);
+        } else if (isFuture()) {
+            ((CompletableFuture) asFuture()).complete(outcome);
+        }
+    }
 }
@@ -0,0 +1,69 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * RouteeSelector selects the routee of a message sent through a {@link RoutingProxy}.
+ * It runs on the thread of each sender, concurrently with other senders, and so must
+ * be thread-safe.
+ */
+@FunctionalInterface
+public interface RouteeSelector {
+  /**
+   * Answers a new {@code RouteeSelector} that selects routees in turn by an atomic counter.
+   * @return RouteeSelector
+   */
+  static RouteeSelector roundRobin() {
+    final AtomicInteger counter = new AtomicInteger(0);
+    return (routees, arguments) -> (counter.getAndIncrement() & Integer.MAX_VALUE) % routees;
+  }
+
+  /**
+   * Answers a new {@code RouteeSelector} that selects routees at random.
+   * @return RouteeSelector
+   */
+  static RouteeSelector random() {
+    return (routees, arguments) -> ThreadLocalRandom.current().nextInt(routees);
+  }
+
+  /**
+   * Answers a new {@code RouteeSelector} that selects routees by the hash of the first
+   * message argument, such that messages with equal first arguments reach the same
+   * routee for as long as the routees are unchanged.
+   * @return RouteeSelector
+   */
+  static RouteeSelector hashing() {
+    return hashing(arguments -> arguments == null || arguments.length == 0 ? null : arguments[0]);
+  }
+
+  /**
+   * Answers a new {@code RouteeSelector} that selects routees by the hash of the key
+   * answered by {@code keyOf} from the message arguments.
+   * @param keyOf the Function answering the key of the message arguments
+   * @return RouteeSelector
+   */
+  static RouteeSelector hashing(final Function<Object[],Object> keyOf) {
+    return (routees, arguments) -> {
+      final Object key = keyOf.apply(arguments);
+      final int hash = key == null ? 0 : key.hashCode();
+      return Math.floorMod(hash ^ (hash >>> 16), routees);
+    };
+  }
+
+  /**
+   * Answers the index of the routee of the message with {@code arguments}.
+   * @param routees the int number of routees, which is greater than zero
+   * @param arguments the Object[] arguments of the message, which may be null when there are none
+   * @return int
+   */
+  int select(final int routees, final Object[] arguments);
+}
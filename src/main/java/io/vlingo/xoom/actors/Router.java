@@ -8,7 +8,9 @@ package io.vlingo.xoom.actors;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 
@@ -28,8 +30,16 @@ public abstract class Router<P> extends Actor {
 
   protected final List<Routee<P>> routees;
 
+  private final ElasticRouterSpecification<P> elasticity;
+  private long lastProbeAt;
+  private long lastResizeAt;
+  private final Map<Routee<P>,Spawned> spawned;
+
+  @SuppressWarnings("unchecked")
   public Router(final RouterSpecification<P> specification) {
     this.routees = new ArrayList<Routee<P>>();
+    this.elasticity = specification instanceof ElasticRouterSpecification ? (ElasticRouterSpecification<P>) specification : null;
+    this.spawned = elasticity == null ? Collections.emptyMap() : new LinkedHashMap<>();
     initRoutees(specification);
   }
 
@@ -95,24 +105,28 @@ public abstract class Router<P> extends Actor {
   //DISPATCHING - COMMANDS
 
   protected <T1> void dispatchCommand(final BiConsumer<P, T1> action, final T1 routable1) {
+    probeLoad();
     routingFor(routable1)
       .routees()
       .forEach(routee -> routee.receiveCommand(action, routable1));
   }
 
   protected <T1, T2> void dispatchCommand(final TriConsumer<P, T1, T2> action, final T1 routable1, final T2 routable2) {
+    probeLoad();
     routingFor(routable1, routable2)
       .routees()
       .forEach(routee -> routee.receiveCommand(action, routable1, routable2));
   }
 
   protected <T1, T2, T3> void dispatchCommand(final QuadConsumer<P, T1, T2, T3> action, final T1 routable1, final T2 routable2, final T3 routable3) {
+    probeLoad();
     routingFor(routable1, routable2, routable3)
       .routees()
       .forEach(routee -> routee.receiveCommand(action, routable1, routable2, routable3));
   }
 
   protected <T1, T2, T3, T4> void dispatchCommand(final PentaConsumer<P, T1, T2, T3, T4> action, final T1 routable1, final T2 routable2, final T3 routable3, final T4 routable4) {
+    probeLoad();
     routingFor(routable1, routable2, routable3, routable4)
       .routees()
       .forEach(routee -> routee.receiveCommand(action, routable1, routable2, routable3, routable4));
@@ -122,6 +136,7 @@ public abstract class Router<P> extends Actor {
 
   @SuppressWarnings("unchecked")
   protected <T1, R extends Completes<?>> R dispatchQuery(final BiFunction<P, T1, R> query, final T1 routable1) {
+    probeLoad();
     final CompletesEventually completesEventually = completesEventually();
     routingFor(routable1)
       .first() //by default, for protocols with a return value, route only to first routee
@@ -132,6 +147,7 @@ public abstract class Router<P> extends Actor {
 
   @SuppressWarnings("unchecked")
   protected <T1, T2, R extends Completes<?>> R dispatchQuery(final TriFunction<P, T1, T2, R> query, final T1 routable1, final T2 routable2) {
+    probeLoad();
     final CompletesEventually completesEventually = completesEventually();
     routingFor(routable1, routable2)
       .first() //by default, for protocols with a return value, route only to first routee
@@ -142,6 +158,7 @@ public abstract class Router<P> extends Actor {
 
   @SuppressWarnings("unchecked")
   protected <T1, T2, T3, R extends Completes<?>> R dispatchQuery(final QuadFunction<P, T1, T2, T3, R> query, final T1 routable1, final T2 routable2, final T3 routable3) {
+    probeLoad();
     final CompletesEventually completesEventually = completesEventually();
     routingFor(routable1, routable2)
       .first() //by default, for protocols with a return value, route only to first routee
@@ -152,6 +169,7 @@ public abstract class Router<P> extends Actor {
 
   @SuppressWarnings("unchecked")
   protected <T1, T2, T3, T4, R extends Completes<?>> R dispatchQuery(final PentaFunction<P, T1, T2, T3, T4, R> query, final T1 routable1, final T2 routable2, final T3 routable3, final T4 routable4) {
+    probeLoad();
     final CompletesEventually completesEventually = completesEventually();
     routingFor(routable1, routable2)
       .first() //by default, for protocols with a return value, route only to first routee
@@ -159,4 +177,75 @@ public abstract class Router<P> extends Actor {
       .andFinallyConsume(completesEventually::with);
     return (R) completes(); //this is a fake out; the real completes doesn't happen until inside the lambda
   }
+
+  //ELASTICITY
+
+  /**
+   * Resizes my pool of routees by their load when my {@code RouterSpecification} is
+   * an {@code ElasticRouterSpecification} and its probe interval has passed.
+   */
+  protected void probeLoad() {
+    if (elasticity == null) {
+      return;
+    }
+
+    final long now = stage().clock().millis();
+
+    if (now - lastProbeAt < elasticity.probeIntervalMillis()) {
+      return;
+    }
+
+    lastProbeAt = now;
+
+    int pending = 0;
+    for (final Routee<P> routee : routees) {
+      pending += routee.pendingMessages();
+    }
+
+    if (now - lastResizeAt >= elasticity.cooldownMillis()) {
+      if (pending >= elasticity.scaleUpDepth() * routees.size() && routees.size() < elasticity.maximumPoolSize()) {
+        final int wanted = Math.min(elasticity.maximumPoolSize(), pending / elasticity.scaleUpDepth() + 1);
+        while (routees.size() < wanted) {
+          spawnRoutee();
+        }
+        lastResizeAt = now;
+      } else if (pending == 0 && routees.size() > elasticity.minimumPoolSize() && retireIdleRoutee()) {
+        lastResizeAt = now;
+      }
+    }
+
+    for (final Map.Entry<Routee<P>,Spawned> entry : spawned.entrySet()) {
+      entry.getValue().lastMessageCount = entry.getKey().messageCount();
+    }
+  }
+
+  private boolean retireIdleRoutee() {
+    for (final Map.Entry<Routee<P>,Spawned> entry : spawned.entrySet()) {
+      final Routee<P> routee = entry.getKey();
+      if (routee.messageCount() == entry.getValue().lastMessageCount && routee.pendingMessages() == 0) {
+        spawned.remove(routee);
+        unsubscribe(routee);
+        entry.getValue().stoppable.stop();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void spawnRoutee() {
+    final Class<?>[] protocols = new Class<?>[] { elasticity.routerProtocol(), Addressable.class, Stoppable.class };
+    final Protocols three = childActorFor(protocols, elasticity.routerDefinition());
+    final Routee<P> routee = Routee.of(three.get(0), three.get(1));
+    subscribe(routee);
+    spawned.put(routee, new Spawned(three.get(2)));
+  }
+
+  private static final class Spawned {
+    private long lastMessageCount;
+    private final Stoppable stoppable;
+
+    Spawned(final Stoppable stoppable) {
+      this.stoppable = stoppable;
+    }
+  }
 }
@@ -53,6 +53,7 @@ public class Routing<P> {
   }
   
   public Routee<P> first() {
+    validate();
     return routees.get(0);
   }
     
@@ -0,0 +1,109 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.vlingo.xoom.actors.ProxyGenerator.Delegation;
+
+/**
+ * RoutingProxy routes the messages sent through its {@code P} protocol on the thread
+ * of the sender, by its {@link RouteeSelector}, straight into the mailbox of the selected
+ * routee. Unlike a {@link Router}, which is an {@link Actor}, there is no router mailbox
+ * through which all messages pass, and no serial routing computation. Queries answer the
+ * {@code Completes} of the selected routee itself. The {@link #proxy()} is generated for
+ * the protocol, and each of its methods calls the same method of the selected routee.
+ * <p>
+ * The routees may be changed at any time. Each change copies the routees, which suits
+ * routees that change rarely compared to the messages routed to them.
+ */
+public final class RoutingProxy<P> {
+  private final Class<P> protocol;
+  private final P proxy;
+  private volatile Object[] routees;
+  private final RouteeSelector selector;
+
+  RoutingProxy(final Class<P> protocol, final List<P> routees, final RouteeSelector selector, final World world) {
+    this.protocol = protocol;
+    this.routees = routees.toArray();
+    this.selector = selector;
+    this.proxy = ActorProxy.createDelegatingFor(protocol, Delegation.Routing, this, world);
+  }
+
+  /**
+   * Answers my {@code P} protocol through which messages are routed.
+   * @return P
+   */
+  public P proxy() {
+    return proxy;
+  }
+
+  /**
+   * Answers my current routees.
+   * @return {@code List<P>}
+   */
+  @SuppressWarnings("unchecked")
+  public List<P> routees() {
+    return (List<P>) Collections.unmodifiableList(Arrays.asList(routees));
+  }
+
+  /**
+   * Adds the {@code routee} to my routees unless it is already one of them.
+   * @param routee the P routee to add
+   */
+  public synchronized void subscribe(final P routee) {
+    final Object[] current = routees;
+    for (final Object existing : current) {
+      if (existing.equals(routee)) {
+        return;
+      }
+    }
+    final Object[] subscribed = Arrays.copyOf(current, current.length + 1);
+    subscribed[current.length] = routee;
+    routees = subscribed;
+  }
+
+  /**
+   * Removes the {@code routee} from my routees.
+   * @param routee the P routee to remove
+   */
+  public synchronized void unsubscribe(final P routee) {
+    final Object[] current = routees;
+    for (int index = 0; index < current.length; ++index) {
+      if (current[index].equals(routee)) {
+        final Object[] unsubscribed = new Object[current.length - 1];
+        System.arraycopy(current, 0, unsubscribed, 0, index);
+        System.arraycopy(current, index + 1, unsubscribed, index, current.length - index - 1);
+        routees = unsubscribed;
+        return;
+      }
+    }
+  }
+
+  /**
+   * Answers the routee selected for the message with {@code arguments}. (INTERNAL ONLY)
+   * @param arguments the Object[] arguments of the message, which may be null when there are none
+   * @return Object
+   */
+  public Object routeeFor(final Object[] arguments) {
+    final Object[] current = routees;
+
+    if (current.length == 0) {
+      throw new IllegalStateException("There are no routees for: " + protocol.getSimpleName());
+    }
+
+    return current[selector.select(current.length, arguments)];
+  }
+
+  @Override
+  public String toString() {
+    return "RoutingProxy[protocol=" + protocol.getSimpleName() + " routees=" + routees.length + "]";
+  }
+}
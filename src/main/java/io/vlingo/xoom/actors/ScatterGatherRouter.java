@@ -0,0 +1,237 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import io.vlingo.xoom.common.Cancellable;
+import io.vlingo.xoom.common.Completes;
+import io.vlingo.xoom.common.PentaFunction;
+import io.vlingo.xoom.common.QuadFunction;
+import io.vlingo.xoom.common.Scheduled;
+import io.vlingo.xoom.common.TriFunction;
+/**
+ * ScatterGatherRouter sends each query to all of its routees, or to the next
+ * {@code fanOut} of them in turn, and completes the query with the outcome
+ * gathered from their replies by way of a {@link Gathering}. This hedges the
+ * tail latency of replicated routees by taking the first reply, and queries
+ * partitioned routees in parallel by reducing all replies. A query that is
+ * scattered to no routees completes at once with the timed out outcome of its
+ * {@code Gathering}, which is null unless given by {@link Gathering#within(long, Object)}.
+ * A reply that fails, by an exception outcome or a failed {@code Completes}, is counted,
+ * and a query completes with the timed out outcome as soon as the replies that remain
+ * cannot satisfy its {@code Gathering}. A routee that throws is handled by its supervisor
+ * and does not reply, so only a timeout given by {@code within()} completes for it.
+ * <p>
+ * Commands are dispatched as by any {@link Router}, to all routees of the
+ * computed {@link Routing}.
+ */
+public class ScatterGatherRouter<P> extends Router<P> {
+
+  private final int fanOut;
+  protected int poolIndex;
+
+  public ScatterGatherRouter(final RouterSpecification<P> specification) {
+    this(specification, 0);
+  }
+
+  public ScatterGatherRouter(final RouterSpecification<P> specification, final int fanOut) {
+    super(specification);
+    if (fanOut < 0) {
+      throw new IllegalArgumentException("Fan out must not be negative.");
+    }
+    this.fanOut = fanOut;
+  }
+
+  /* @see io.vlingo.xoom.actors.Router#computeRouting() */
+  @Override
+  protected Routing<P> computeRouting() {
+    final List<Routee<P>> routees = routees();
+    final int size = routees.size();
+
+    if (size == 0) {
+      return new Routing<>();
+    }
+
+    if (fanOut == 0 || fanOut >= size) {
+      return Routing.with(new ArrayList<>(routees));
+    }
+
+    final List<Routee<P>> subset = new ArrayList<>(fanOut);
+    final int start = incrementAndGetPoolIndex() % size;
+    for (int index = 0; index < fanOut; ++index) {
+      subset.add(routees.get((start + index) % size));
+    }
+    return Routing.with(subset);
+  }
+
+  protected <T1, O> Completes<O> scatterQuery(final BiFunction<P, T1, Completes<O>> query, final T1 routable1, final Gathering<O> gathering) {
+    probeLoad();
+    final List<Routee<P>> scattered = routingFor(routable1).routees();
+    final Gather<O> gather = gatherFor(gathering, scattered.size());
+    for (final Routee<P> routee : scattered) {
+      gather.replyOf(routee.receiveQuery(query, routable1));
+    }
+    return completes(); //this is a fake out; the real completes doesn't happen until gathered
+  }
+
+  protected <T1, T2, O> Completes<O> scatterQuery(final TriFunction<P, T1, T2, Completes<O>> query, final T1 routable1, final T2 routable2, final Gathering<O> gathering) {
+    probeLoad();
+    final List<Routee<P>> scattered = routingFor(routable1, routable2).routees();
+    final Gather<O> gather = gatherFor(gathering, scattered.size());
+    for (final Routee<P> routee : scattered) {
+      gather.replyOf(routee.receiveQuery(query, routable1, routable2));
+    }
+    return completes(); //this is a fake out; the real completes doesn't happen until gathered
+  }
+
+  protected <T1, T2, T3, O> Completes<O> scatterQuery(final QuadFunction<P, T1, T2, T3, Completes<O>> query, final T1 routable1, final T2 routable2, final T3 routable3, final Gathering<O> gathering) {
+    probeLoad();
+    final List<Routee<P>> scattered = routingFor(routable1, routable2, routable3).routees();
+    final Gather<O> gather = gatherFor(gathering, scattered.size());
+    for (final Routee<P> routee : scattered) {
+      gather.replyOf(routee.receiveQuery(query, routable1, routable2, routable3));
+    }
+    return completes(); //this is a fake out; the real completes doesn't happen until gathered
+  }
+
+  protected <T1, T2, T3, T4, O> Completes<O> scatterQuery(final PentaFunction<P, T1, T2, T3, T4, Completes<O>> query, final T1 routable1, final T2 routable2, final T3 routable3, final T4 routable4, final Gathering<O> gathering) {
+    probeLoad();
+    final List<Routee<P>> scattered = routingFor(routable1, routable2, routable3, routable4).routees();
+    final Gather<O> gather = gatherFor(gathering, scattered.size());
+    for (final Routee<P> routee : scattered) {
+      gather.replyOf(routee.receiveQuery(query, routable1, routable2, routable3, routable4));
+    }
+    return completes(); //this is a fake out; the real completes doesn't happen until gathered
+  }
+
+  private <O> Gather<O> gatherFor(final Gathering<O> gathering, final int scattered) {
+    final Gather<O> gather = new Gather<>(completesEventually(), gathering, scattered, gathering.required(scattered));
+    if (scattered == 0) {
+      gather.completeTimedOut();
+    } else if (gathering.timeout() > 0) {
+      gather.timeoutWith(scheduler().scheduleOnce(gather, null, 0, gathering.timeout()));
+    }
+    return gather;
+  }
+
+  private int incrementAndGetPoolIndex() {
+    poolIndex = (poolIndex == Integer.MAX_VALUE) ? 0 : poolIndex + 1;
+    return poolIndex;
+  }
+
+  /**
+   * Gathers the replies of one scattered query on the threads of its routees' replies,
+   * completing it once with either the reduction of its required replies or, when its
+   * timeout fires first or too many replies failed to leave enough for the required
+   * replies, the timed out outcome. Any replies that follow are discarded.
+   */
+  private static final class Gather<O> implements Consumer<O>, Scheduled<Object> {
+    private final CompletesEventually completesEventually;
+    private int failures;
+    private final Gathering<O> gathering;
+    private final List<O> replies;
+    private final int required;
+    private final int scattered;
+    private boolean gathered;
+    private Cancellable timeout;
+
+    Gather(final CompletesEventually completesEventually, final Gathering<O> gathering, final int scattered, final int required) {
+      this.completesEventually = completesEventually;
+      this.gathering = gathering;
+      this.scattered = scattered;
+      this.required = required;
+      this.replies = new ArrayList<>(required);
+    }
+
+    /**
+     * Gathers the {@code reply} of one routee, whether it succeeds or fails.
+     * @param reply the {@code Completes<O>} of the routee's reply
+     */
+    void replyOf(final Completes<O> reply) {
+      reply
+        .andThenConsume(this)
+        .otherwiseConsume(failed -> failed())
+        .recoverFrom(cause -> { failed(); return null; });
+    }
+
+    @Override
+    public void accept(final O reply) {
+      final Cancellable timeout;
+
+      synchronized (this) {
+        if (gathered) {
+          return; // a straggler
+        }
+        replies.add(reply);
+        if (replies.size() < required) {
+          return;
+        }
+        gathered = true;
+        timeout = this.timeout;
+      }
+
+      if (timeout != null) {
+        timeout.cancel();
+      }
+
+      completesEventually.with(gathering.reduce(replies));
+    }
+
+    @Override
+    public void intervalSignal(final Scheduled<Object> scheduled, final Object data) {
+      completeTimedOut();
+    }
+
+    void failed() {
+      final Cancellable timeout;
+
+      synchronized (this) {
+        if (gathered) {
+          return; // a straggler
+        }
+        ++failures;
+        if (scattered - failures >= required) {
+          return; // the required replies may still be gathered
+        }
+        gathered = true;
+        timeout = this.timeout;
+      }
+
+      if (timeout != null) {
+        timeout.cancel();
+      }
+
+      completesEventually.with(gathering.timedOutOutcome());
+    }
+
+    void completeTimedOut() {
+      synchronized (this) {
+        if (gathered) {
+          return;
+        }
+        gathered = true;
+      }
+
+      completesEventually.with(gathering.timedOutOutcome());
+    }
+
+    void timeoutWith(final Cancellable timeout) {
+      synchronized (this) {
+        if (!gathered) {
+          this.timeout = timeout;
+          return;
+        }
+      }
+      timeout.cancel();
+    }
+  }
+}
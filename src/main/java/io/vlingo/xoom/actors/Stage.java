@@ -7,23 +7,37 @@
 
 package io.vlingo.xoom.actors;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
 
 import io.vlingo.xoom.actors.plugin.mailbox.testkit.TestMailbox;
 import io.vlingo.xoom.actors.testkit.TestActor;
 import io.vlingo.xoom.common.Completes;
 import io.vlingo.xoom.common.Scheduled;
 import io.vlingo.xoom.common.Scheduler;
+import io.vlingo.xoom.common.SerializableConsumer;
 
 public class Stage implements Stoppable {
   private final AddressFactory addressFactory;
+  private final CoarseClock clock;
+  private volatile CoalescingScheduler coalescingScheduler;
+  private final boolean completesDirectly;
   private final Map<Class<?>, Supervisor> commonSupervisors;
   protected final Directory directory;
-  private DirectoryScanner directoryScanner;
+  private DirectoryScanner[] directoryScanners;
+  private final int directoryScannerCount;
   private final String name;
   private final Scheduler scheduler;
   private AtomicBoolean stopped;
@@ -32,13 +46,14 @@ public class Stage implements Stoppable {
  
   /**
    * Initializes the new {@code Stage} of the{@code world}, {@code addressFactory}, and with {@code name}.
-   * Uses default {@code Directory} capacity of 32x32.
+   * Uses the {@code DirectoryConfiguration} of {@code name} from the {@code world}
+   * {@code Configuration}, which by default is a {@code Directory} capacity of 32x32.
    * @param world the {@code World} parent of this {@code Stage}
    * @param addressFactory the AddressFactory to be used
    * @param name the {@code String} name of this {@code Stage}
    */
   public Stage(final World world, final AddressFactory addressFactory, final String name) {
-    this(world, addressFactory, name, 32, 32);
+    this(world, addressFactory, name, directoryConfigurationOf(world, name));
   }
 
   /**
@@ -51,12 +66,27 @@ public class Stage implements Stoppable {
    * @param directoryInitialCapacity the int initial number of elements in each bucket
    */
   public Stage(final World world, final AddressFactory addressFactory, final String name, final int directoryBuckets, final int directoryInitialCapacity) {
+    this(world, addressFactory, name, DirectoryConfiguration.define().buckets(directoryBuckets).initialCapacity(directoryInitialCapacity));
+  }
+
+  /**
+   * Initializes the new {@code Stage} of the{@code world}, {@code addressFactory}, {@code name},
+   * and {@code Directory} tuned by {@code directoryConfiguration}.
+   * @param world the {@code World} parent of this {@code Stage}
+   * @param addressFactory the AddressFactory to be used
+   * @param name the {@code String} name of this {@code Stage}
+   * @param directoryConfiguration the DirectoryConfiguration of my Directory
+   */
+  public Stage(final World world, final AddressFactory addressFactory, final String name, final DirectoryConfiguration directoryConfiguration) {
     this.world = world;
     this.addressFactory = addressFactory;
+    this.clock = world != null ? world.clock() : CoarseClock.system();
+    this.completesDirectly = world != null && world.configuration() != null && world.configuration().isDirectCompletion();
     this.name = name;
-    this.directory = new Directory(addressFactory.none(), directoryBuckets, directoryInitialCapacity);
+    this.directory = new Directory(addressFactory.none(), directoryConfiguration);
+    this.directoryScannerCount = directoryConfiguration.scanners();
     this.commonSupervisors = new HashMap<>();
-    this.scheduler = new Scheduler();
+    this.scheduler = schedulerFor(world, name);
     this.stopped = new AtomicBoolean(false);
   }
 
@@ -234,6 +264,233 @@ public class Stage implements Stoppable {
     return actorFor(protocols, Definition.has(type, Arrays.asList(parameters)));
   }
 
+  /**
+   * Answers the {@code List<T>} of {@code count} protocols of the newly created {@code Actor}
+   * instances that implement the {@code protocol}, all according to the same {@code definition}.
+   * @param <T> the protocol type
+   * @param protocol the {@code Class<T>} protocol
+   * @param definition the {@code Definition} used to initialize each newly created {@code Actor}
+   * @param count the int number of {@code Actor} instances to create
+   * @return {@code List<T>}
+   */
+  public <T> List<T> actorsFor(final Class<T> protocol, final Definition definition, final int count) {
+    return actorsFor(protocol, definition, allocateAddresses(definition, count), false);
+  }
+
+  /**
+   * Answers the {@code List<T>} of protocols of the newly created {@code Actor} instances that
+   * implement the {@code protocol}, one for each of the {@code addresses} and all according to
+   * the same {@code definition}.
+   * @param <T> the protocol type
+   * @param protocol the {@code Class<T>} protocol
+   * @param definition the {@code Definition} used to initialize each newly created {@code Actor}
+   * @param addresses the {@code List<Address>} to assign to the newly created {@code Actor} instances
+   * @return {@code List<T>}
+   */
+  public <T> List<T> actorsFor(final Class<T> protocol, final Definition definition, final List<Address> addresses) {
+    return actorsFor(protocol, definition, addresses, false);
+  }
+
+  /**
+   * Answers the {@code List<T>} of protocols of the newly created {@code Actor} instances that
+   * implement the {@code protocol}, one for each of the {@code addresses} and all according to
+   * the same {@code definition}. The {@code definition} is resolved, and the protocol proxy type
+   * is looked up, only once for all {@code Actor} instances. When {@code parallel} is {@code true}
+   * the {@code Actor} instances are instantiated on multiple cores. In all cases the answered
+   * protocols are in the same order as the {@code addresses}.
+   * @param <T> the protocol type
+   * @param protocol the {@code Class<T>} protocol
+   * @param definition the {@code Definition} used to initialize each newly created {@code Actor}
+   * @param addresses the {@code List<Address>} to assign to the newly created {@code Actor} instances
+   * @param parallel the boolean indicating whether to instantiate the {@code Actor} instances in parallel
+   * @return {@code List<T>}
+   */
+  public <T> List<T> actorsFor(final Class<T> protocol, final Definition definition, final List<Address> addresses, final boolean parallel) {
+    assertProtocolCompliance(protocol);
+
+    if (isStopped()) {
+      throw new IllegalStateException("Actor stage has been stopped.");
+    }
+
+    if (addresses.isEmpty()) {
+      return new ArrayList<>(0);
+    }
+
+    final Set<Address> distinct = new HashSet<>(addresses.size() * 2);
+    for (final Address address : addresses) {
+      if (!distinct.add(address) || directory.isRegistered(address)) {
+        throw new Directory.ActorAddressAlreadyRegistered(definition.type(), address);
+      }
+    }
+
+    final Actor parent = definition.parentOr(world.defaultParent());
+    final Supervisor maybeSupervisor = definition.supervisor();
+    final Logger logger = definition.loggerOr(world.defaultLogger());
+    final Actor[] actors = new Actor[addresses.size()];
+    final Object[] protocolActors = new Object[addresses.size()];
+
+    try {
+      final Address firstAddress = addresses.get(0);
+      actors[0] = instantiateRawActor(definition, parent, firstAddress, allocateMailbox(definition, firstAddress, null), maybeSupervisor, logger);
+      protocolActors[0] = actorProxyFor(protocol, actors[0], actors[0].lifeCycle.environment.mailbox);
+      final Class<?> proxyClass = protocolActors[0].getClass();
+
+      final IntConsumer instantiate = (index) -> {
+        final Address address = addresses.get(index);
+        final Actor actor = instantiateRawActor(definition, parent, address, allocateMailbox(definition, address, null), maybeSupervisor, logger);
+        actors[index] = actor;
+        protocolActors[index] = ActorProxy.createWith(protocol, proxyClass, actor, actor.lifeCycle.environment.mailbox);
+      };
+
+      if (parallel) {
+        instantiateInParallel(instantiate, 1, addresses.size());
+      } else {
+        for (int index = 1; index < addresses.size(); ++index) {
+          instantiate.accept(index);
+        }
+      }
+
+      directory.registerAll(Arrays.asList(actors));
+    } catch (final Throwable t) {
+      abandon(actors);
+      throw t;
+    }
+
+    final List<T> all = new ArrayList<>(actors.length);
+    for (int index = 0; index < actors.length; ++index) {
+      actors[index].lifeCycle.beforeStart(actors[index]);
+      all.add(protocol.cast(protocolActors[index]));
+    }
+
+    return all;
+  }
+
+  /**
+   * Answers a new {@code RoutingProxy} that routes the messages sent through its {@code P}
+   * protocol on the sender's thread, by the {@code selector}, to the {@code initialPoolSize()}
+   * routees of the {@code specification}, which are created by this {@code Stage}.
+   * @param <P> the protocol type
+   * @param specification the {@code RouterSpecification<P>} of the routees
+   * @param selector the {@code RouteeSelector} that selects the routee of each message
+   * @return {@code RoutingProxy<P>}
+   */
+  public <P> RoutingProxy<P> routingProxyFor(final RouterSpecification<P> specification, final RouteeSelector selector) {
+    final List<P> routees = new ArrayList<>(specification.initialPoolSize());
+    for (int count = 0; count < specification.initialPoolSize(); ++count) {
+      routees.add(actorFor(specification.routerProtocol(), specification.routerDefinition()));
+    }
+    return routingProxyFor(specification.routerProtocol(), routees, selector);
+  }
+
+  /**
+   * Answers a new {@code RoutingProxy} that routes the messages sent through its {@code P}
+   * protocol on the sender's thread, by the {@code selector}, to the existing {@code routees}.
+   * @param <P> the protocol type
+   * @param protocol the {@code Class<P>} protocol
+   * @param routees the {@code List<P>} of initial routees
+   * @param selector the {@code RouteeSelector} that selects the routee of each message
+   * @return {@code RoutingProxy<P>}
+   */
+  public <P> RoutingProxy<P> routingProxyFor(final Class<P> protocol, final List<P> routees, final RouteeSelector selector) {
+    assertProtocolCompliance(protocol);
+    return new RoutingProxy<>(protocol, routees, selector, world);
+  }
+
+  /**
+   * Answers a new {@code BalancingPool} of the {@code initialPoolSize()} workers of the
+   * {@code specification}, which are created by this {@code Stage}.
+   * @param <P> the protocol type
+   * @param specification the {@code RouterSpecification<P>} of the workers
+   * @return {@code BalancingPool<P>}
+   */
+  public <P> BalancingPool<P> balancingPoolFor(final RouterSpecification<P> specification) {
+    return balancingPoolFor(specification.routerProtocol(), specification.routerDefinition(), specification.initialPoolSize());
+  }
+
+  /**
+   * Answers a new {@code BalancingPool} of {@code workers} newly created actors of the
+   * {@code definition}, each of which takes the next message sent through the {@code P}
+   * protocol of the pool from one shared work queue whenever it is idle.
+   * @param <P> the protocol type
+   * @param protocol the {@code Class<P>} protocol
+   * @param definition the {@code Definition} used to initialize each worker
+   * @param workers the int number of workers, which must be greater than zero
+   * @return {@code BalancingPool<P>}
+   */
+  public <P> BalancingPool<P> balancingPoolFor(final Class<P> protocol, final Definition definition, final int workers) {
+    assertProtocolCompliance(protocol);
+    if (workers <= 0) {
+      throw new IllegalArgumentException("Workers must be greater than zero.");
+    }
+    final List<ActorProtocolActor<P>> all = new ArrayList<>(workers);
+    for (int count = 0; count < workers; ++count) {
+      all.add(actorProtocolFor(
+              protocol,
+              definition,
+              definition.parentOr(world.defaultParent()),
+              null,
+              null,
+              definition.supervisor(),
+              definition.loggerOr(world.defaultLogger())));
+    }
+    return new BalancingPool<>(protocol, all, world);
+  }
+
+  /**
+   * Answers the {@code T} protocol of a virtual {@code Actor} that implements the {@code protocol}
+   * and that is assigned a newly allocated {@code Address}. The backing {@code Actor} is not created
+   * until the first message is sent through the answered protocol.
+   * @param <T> the protocol type
+   * @param protocol the {@code Class<T>} protocol
+   * @param definition the {@code Definition} used to initialize the lazily created {@code Actor}
+   * @return T
+   */
+  public <T> T virtualActorFor(final Class<T> protocol, final Definition definition) {
+    return virtualActorFor(protocol, definition, allocateAddress(definition, null));
+  }
+
+  /**
+   * Answers the {@code T} protocol of a virtual {@code Actor} that implements the {@code protocol}
+   * and that is identified by {@code address}. The backing {@code Actor} is not created until the
+   * first message is sent through the answered protocol, at which time an existing {@code Actor}
+   * of the same {@code address} is used if any. After the backing {@code Actor} is stopped, such
+   * as by {@code passivate(address)}, the next message creates it again from the {@code definition}.
+   * @param <T> the protocol type
+   * @param protocol the {@code Class<T>} protocol
+   * @param definition the {@code Definition} used to initialize the lazily created {@code Actor}
+   * @param address the {@code Address} that identifies the virtual {@code Actor}
+   * @return T
+   */
+  public <T> T virtualActorFor(final Class<T> protocol, final Definition definition, final Address address) {
+    assertProtocolCompliance(protocol);
+    return VirtualActorProxy.newFor(this, protocol, definition, address);
+  }
+
+  /**
+   * Passivates the {@code Actor} of the given {@code address} by stopping it, answering
+   * {@code true} if it was found and {@code false} otherwise. A virtual {@code Actor} of
+   * the same {@code address} is recreated when it is next sent a message.
+   * <p>
+   * When a {@code PassivationStore} is configured by {@code DirectoryEvictionConfiguration},
+   * the {@code stateSnapshot()} of the {@code Actor} is first stored, and a tombstone of its
+   * {@code Definition} is left in the {@code Directory}. The {@code Actor} is then reactivated
+   * with its snapshot by the next {@code actorOf()} of its {@code address}, as well as by the
+   * next message to its virtual {@code Actor}, or by {@code lookupOrStart}.
+   * @param address the {@code Address} of the {@code Actor} to passivate
+   * @return boolean
+   */
+  public boolean passivate(final Address address) {
+    final Actor actor = directory.actorOf(address);
+
+    if (actor == null || actor.isStopped()) {
+      return false;
+    }
+
+    passivate(actor);
+
+    return true;
+  }
+
   /**
    * Answers the {@code Completes<T>} that will eventually complete with the {@code T} protocol
    * of the backing {@code Actor} of the given {@code address}, or {@code null} if not found.
@@ -243,7 +500,7 @@ public class Stage implements Stoppable {
    * @return {@code Completes<T>}
    */
   public <T> Completes<T> actorOf(final Class<T> protocol, final Address address) {
-    return directoryScanner.actorOf(protocol, address).andThen(null, proxy -> proxy);
+    return directoryScannerFor(address).actorOf(protocol, address).andThen(null, proxy -> proxy);
   }
 
   /**
@@ -288,7 +545,67 @@ public class Stage implements Stoppable {
    * @return {@code Completes<T>}
    */
   public <T> Completes<T> actorOf(final Class<T> protocol, final Address address, final Definition definition) {
-    return directoryScanner.actorOf(protocol, address, definition);
+    return directoryScannerFor(address).actorOf(protocol, address, definition);
+  }
+
+  /**
+   * Answers the {@code T} protocol of the backing {@code Actor} of the given {@code address},
+   * or {@code null} if not found. Unlike {@code actorOf()}, the {@code Directory} is read on
+   * the calling thread, which may be any number of threads at once, and no message is sent
+   * unless a passivated {@code Actor} must be reactivated.
+   * @param <T> the protocol type
+   * @param protocol the {@code Class<T>} protocol supported by the backing {@code Actor}
+   * @param address the {@code Address} of the {@code Actor} to find
+   * @return T
+   */
+  public <T> T actorOfNow(final Class<T> protocol, final Address address) {
+    final Actor actor = liveActorOf(address);
+    return actor == null ? null : actorAs(actor, protocol);
+  }
+
+  /**
+   * Answers the {@code T} protocol of the backing {@code Actor} of the given {@code address}
+   * as a non-empty {@code Optional<T>}, or an empty {@code Optional<T>} if not found. As with
+   * {@code actorOfNow()}, the {@code Directory} is read on the calling thread.
+   * @param <T> the protocol type
+   * @param protocol the {@code Class<T>} protocol supported by the backing {@code Actor}
+   * @param address the {@code Address} of the {@code Actor} to find
+   * @return {@code Optional<T>}
+   */
+  public <T> Optional<T> maybeActorOfNow(final Class<T> protocol, final Address address) {
+    return Optional.ofNullable(actorOfNow(protocol, address));
+  }
+
+  /**
+   * Answers the {@code T} protocol of an {@code Actor} whose {@code Address} has the given
+   * {@code name}, or {@code null} if there is none. When more than one has the name, any
+   * one of them is answered. The lookup is constant time when my {@code Directory} is
+   * name indexed; see {@code DirectoryConfiguration#nameIndexed(boolean)}.
+   * @param <T> the protocol type
+   * @param protocol the {@code Class<T>} protocol supported by the backing {@code Actor}
+   * @param name the {@code String} name of the {@code Address} of the {@code Actor} to find
+   * @return T
+   */
+  public <T> T actorNamed(final Class<T> protocol, final String name) {
+    final List<Actor> named = directory.actorsNamed(name);
+    return named.isEmpty() ? null : actorAs(named.get(0), protocol);
+  }
+
+  /**
+   * Answers the {@code T} protocol of every {@code Actor} whose {@code Address} has the
+   * given {@code name}, which is empty if there are none.
+   * @param <T> the protocol type
+   * @param protocol the {@code Class<T>} protocol supported by the backing {@code Actor} instances
+   * @param name the {@code String} name of the {@code Address} of the {@code Actor} instances to find
+   * @return {@code List<T>}
+   */
+  public <T> List<T> actorsNamed(final Class<T> protocol, final String name) {
+    final List<Actor> named = directory.actorsNamed(name);
+    final List<T> proxies = new ArrayList<>(named.size());
+    for (final Actor actor : named) {
+      proxies.add(actorAs(actor, protocol));
+    }
+    return proxies;
   }
 
   /**
@@ -309,7 +626,7 @@ public class Stage implements Stoppable {
    * @return {@code Completes<Optional<T>>}
    */
   public <T> Completes<Optional<T>> maybeActorOf(final Class<T> protocol, final Address address) {
-    return directoryScanner.maybeActorOf(protocol, address).andThen(proxy -> proxy);
+    return directoryScannerFor(address).maybeActorOf(protocol, address).andThen(proxy -> proxy);
   }
 
   public final <T> TestActor<T> testActorFor(final Class<T> protocol, final Class<? extends Actor> type, final Object...parameters) {
@@ -441,6 +758,25 @@ public class Stage implements Stoppable {
     return scheduler;
   }
 
+  /**
+   * Answers the {@code CoalescingScheduler} of this {@code Stage}, which shares the timers
+   * of repeating subscriptions of the same interval and phase over my {@code Scheduler}.
+   * @return CoalescingScheduler
+   */
+  public CoalescingScheduler coalescingScheduler() {
+    CoalescingScheduler current = coalescingScheduler;
+    if (current == null) {
+      synchronized (this) {
+        current = coalescingScheduler;
+        if (current == null) {
+          current = new CoalescingScheduler(scheduler, CoalescingScheduler.DefaultBatchSize, world::defaultLogger);
+          coalescingScheduler = current;
+        }
+      }
+    }
+    return current;
+  }
+
   /**
    * Answers whether or not this {@code Stage} has been stopped or is in the process of stopping.
    * @return boolean
@@ -475,6 +811,23 @@ public class Stage implements Stoppable {
     scheduler.close();
   }
 
+  /**
+   * Answers the {@code CoarseClock} of my {@code World}. (INTERNAL ONLY)
+   * @return CoarseClock
+   */
+  CoarseClock clock() {
+    return clock;
+  }
+
+  /**
+   * Answers whether the {@code Completes} outcomes of my actors are completed
+   * directly on the replying thread rather than by a scheduled task. (INTERNAL ONLY)
+   * @return boolean
+   */
+  boolean completesDirectly() {
+    return completesDirectly;
+  }
+
   /**
    * Answers whether this {@code Stage} support evictions.
    * @return boolean
@@ -662,9 +1015,14 @@ public class Stage implements Stoppable {
    * @param forceEvictionEnabled the boolean that if true forces the DirectoryEvictor into action
    */
   void startDirectoryScanner(final boolean forceEvictionEnabled) {
-    this.directoryScanner = actorFor(DirectoryScanner.class,
-        Definition.has(DirectoryScannerActor.class, () -> new DirectoryScannerActor(directory)),
-        world().addressFactory().uniqueWith("DirectoryScanner::"+name()));
+    final DirectoryScanner[] scanners = new DirectoryScanner[directoryScannerCount];
+    for (int idx = 0; idx < scanners.length; ++idx) {
+      final String scannerName = idx == 0 ? "DirectoryScanner::"+name() : "DirectoryScanner::"+name()+"::"+idx;
+      scanners[idx] = actorFor(DirectoryScanner.class,
+          Definition.has(DirectoryScannerActor.class, () -> new DirectoryScannerActor(directory)),
+          world().addressFactory().uniqueWith(scannerName));
+    }
+    this.directoryScanners = scanners;
 
     final DirectoryEvictionConfiguration evictionConfiguration =
         evictionConfiguration(world.configuration().directoryEvictionConfiguration(), forceEvictionEnabled);
@@ -672,6 +1030,8 @@ public class Stage implements Stoppable {
     if (supportsEvictions(evictionConfiguration)) {
       world.defaultLogger().debug("Scheduling directory eviction for stage: {} with: {}", name(), evictionConfiguration);
 
+      directory.trackEvictions();
+
       @SuppressWarnings("unchecked")
       final Scheduled<Object> directoryEvictor =
           actorFor(Scheduled.class,
@@ -754,6 +1114,21 @@ public class Stage implements Stoppable {
     return address;
   }
 
+  /**
+   * Answers {@code count} newly allocated Addresses for Actors of the same
+   * {@code definition}. (INTERNAL ONLY)
+   * @param definition the Definition of the newly created Actors
+   * @param count the int number of Addresses to allocate
+   * @return {@code List<Address>}
+   */
+  protected List<Address> allocateAddresses(final Definition definition, final int count) {
+    final List<Address> addresses = new ArrayList<>(count);
+    for (int idx = 0; idx < count; ++idx) {
+      addresses.add(this.addressFactory().uniqueWith(definition.actorName()));
+    }
+    return addresses;
+  }
+
   /**
    * Answers a Mailbox for an Actor. If maybeMailbox is allocated answer it; otherwise
    * answer a newly allocated Mailbox. (INTERNAL ONLY)
@@ -832,20 +1207,231 @@ public class Stage implements Stoppable {
     final Mailbox mailbox = maybeMailbox != null ?
             maybeMailbox : ActorFactory.actorMailbox(this, address, definition, mailboxWrapper());
 
-    final Actor actor;
+    final Actor actor = instantiateRawActor(definition, parent, address, mailbox, maybeSupervisor, logger);
+
+    restorePassivated(actor, address);
+
+    directory.register(actor.address(), actor);
+    directory.removeTombstone(address);
+
+    actor.lifeCycle.beforeStart(actor);
+
+    return actor;
+  }
+
+  /**
+   * Answers the Actor registered at {@code address} or a newly created and registered
+   * Actor instance when there is none. Concurrent requests for the same {@code address}
+   * result in a single Actor instance. (INTERNAL ONLY)
+   * @param definition the Definition of the Actor to create
+   * @param address the Address of the Actor to find or create
+   * @param mailboxOf the {@code Function<Address, Mailbox>} answering the Mailbox of the Actor to create
+   * @param logger the Logger of the Actor to create
+   * @return Actor
+   */
+  private Actor lookupOrCreateRawActor(
+          final Definition definition,
+          final Address address,
+          final Function<Address, Mailbox> mailboxOf,
+          final Logger logger) {
+
+    final Actor existing = directory.actorOf(address);
+    if (existing != null) {
+      if (!existing.lifeCycle.isStopped()) {
+        return existing;
+      }
+      // stopped, such as by passivation, but not yet removed by its own thread
+      directory.remove(address, existing);
+    }
+
+    if (isStopped()) {
+      throw new IllegalStateException("Actor stage has been stopped.");
+    }
+
+    final Actor parent = definition.parentOr(world.defaultParent());
+    final Supervisor maybeSupervisor = definition.supervisor();
+    final Actor[] created = new Actor[1];
+
+    final Actor actor =
+            directory.computeIfAbsent(address, (absent) -> {
+              created[0] = instantiateRawActor(definition, parent, absent, mailboxOf.apply(absent), maybeSupervisor, logger);
+              restorePassivated(created[0], absent);
+              return created[0];
+            });
+
+    if (actor == created[0]) {
+      directory.removeTombstone(address);
+      actor.lifeCycle.beforeStart(actor);
+    }
+
+    return actor;
+  }
+
+  /**
+   * Answers a newly created Actor instance from the internal ActorFactory without
+   * registering it in the Directory, which is the responsibility of the caller. (INTERNAL ONLY)
+   * @param definition the Definition of the Actor to create
+   * @param parent the Actor parent of the new Actor
+   * @param address the Address of the Actor to create
+   * @param mailbox the Mailbox of the Actor to create
+   * @param maybeSupervisor the possible Supervisor of the Actor to create
+   * @param logger the Logger of the Actor to create
+   * @return Actor
+   */
+  private Actor instantiateRawActor(
+          final Definition definition,
+          final Actor parent,
+          final Address address,
+          final Mailbox mailbox,
+          final Supervisor maybeSupervisor,
+          final Logger logger) {
 
     try {
-      actor = ActorFactory.actorFor(this, parent, definition, address, mailbox, maybeSupervisor, logger);
+      return ActorFactory.actorFor(this, parent, definition, address, mailbox, maybeSupervisor, logger);
     } catch (Exception e) {
       logger.error("Actor instantiation failed because: " + e.getMessage(), e);
       throw new IllegalArgumentException("Actor instantiation failed because: " + e.getMessage(), e);
     }
+  }
 
-    directory.register(actor.address(), actor);
+  /**
+   * Stops each of the {@code actors} created by a bulk creation that failed, and removes
+   * those that were already registered by it. Any {@code null} element was not created.
+   * @param actors the Actor[] created so far
+   */
+  private void abandon(final Actor[] actors) {
+    for (final Actor actor : actors) {
+      if (actor != null) {
+        actor.lifeCycle.environment.stop();
+        actor.lifeCycle.environment.removeFromParent(actor);
+        directory.remove(actor.address(), actor);
+      }
+    }
+  }
 
-    actor.lifeCycle.beforeStart(actor);
+  /**
+   * Runs {@code instantiate} for each index {@code from} inclusive {@code to} exclusive in
+   * contiguous ranges on the common pool, and answers only after all ranges have ended,
+   * successfully or not, such that no instantiation may still be running after a failure.
+   * @param instantiate the IntConsumer that instantiates the Actor of an index
+   * @param from the int first index
+   * @param to the int index following the last
+   */
+  private void instantiateInParallel(final IntConsumer instantiate, final int from, final int to) {
+    final int count = to - from;
 
-    return actor;
+    if (count <= 0) {
+      return;
+    }
+
+    final int ranges = Math.min(count, Math.max(1, ForkJoinPool.getCommonPoolParallelism()));
+    final CompletableFuture<?>[] futures = new CompletableFuture<?>[ranges];
+
+    for (int range = 0; range < ranges; ++range) {
+      final int start = from + (int) ((long) count * range / ranges);
+      final int end = from + (int) ((long) count * (range + 1) / ranges);
+      futures[range] = CompletableFuture.runAsync(() -> {
+        try {
+          for (int index = start; index < end; ++index) {
+            instantiate.accept(index);
+          }
+        } finally {
+          // the pool thread must not keep the Environment of the last Actor it created
+          ActorFactory.threadLocalEnvironment.remove();
+        }
+      });
+    }
+
+    try {
+      CompletableFuture.allOf(futures).join();
+    } catch (CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /**
+   * Passivates the {@code actor} following its pending messages, which stores its
+   * state snapshot when there is a {@code PassivationStore}, and then stops it and
+   * removes it from my {@code Directory}. (INTERNAL ONLY)
+   * @param actor the Actor to passivate
+   */
+  void passivate(final Actor actor) {
+    final Mailbox mailbox = actor.lifeCycle.environment.mailbox;
+    final SerializableConsumer<Stoppable> consumer = (stoppable) -> passivateNow((Actor) stoppable);
+    if (mailbox.isPreallocated()) {
+      mailbox.send(actor, Stoppable.class, consumer, null, "passivate()");
+    } else {
+      mailbox.send(new LocalMessage<Stoppable>(actor, Stoppable.class, consumer, "passivate()"));
+    }
+  }
+
+  /**
+   * Answers my {@code PassivationStore} or {@code null} when there is none. (INTERNAL ONLY)
+   * @return PassivationStore
+   */
+  PassivationStore passivationStore() {
+    final Configuration configuration = world.configuration();
+    if (configuration == null || configuration.directoryEvictionConfiguration() == null) {
+      return null;
+    }
+    return configuration.directoryEvictionConfiguration().passivationStore();
+  }
+
+  /**
+   * Stores the state of the {@code actor} and leaves its tombstone when there is a
+   * {@code PassivationStore}, then stops it and removes it from my {@code Directory},
+   * all on its own thread. (INTERNAL ONLY)
+   * @param actor the Actor to passivate
+   */
+  private void passivateNow(final Actor actor) {
+    if (actor.isStopped()) {
+      return;
+    }
+
+    final Address address = actor.address();
+    final PassivationStore passivationStore = passivationStore();
+    if (passivationStore != null) {
+      final Object stateSnapshot = actor.stateSnapshot();
+      if (stateSnapshot != null) {
+        passivationStore.store(address, stateSnapshot);
+      }
+      directory.tombstone(address, actor.lifeCycle.environment.definition);
+    }
+
+    actor.stop();
+    directory.remove(address, actor);
+  }
+
+  /**
+   * Sends the passivated state snapshot of {@code address}, if any, to the newly
+   * created {@code actor}, which must not yet be registered so that the snapshot
+   * is its first message following start. (INTERNAL ONLY)
+   * @param actor the newly created Actor
+   * @param address the Address of the Actor
+   */
+  private void restorePassivated(final Actor actor, final Address address) {
+    final PassivationStore passivationStore = passivationStore();
+    if (passivationStore == null || directory.tombstoneOf(address) == null) {
+      return;
+    }
+
+    final Object stateSnapshot = passivationStore.restore(address);
+    if (stateSnapshot != null) {
+      final Mailbox mailbox = actor.lifeCycle.environment.mailbox;
+      final SerializableConsumer<Relocatable> consumer = (relocatable) -> relocatable.stateSnapshot(stateSnapshot);
+      if (mailbox.isPreallocated()) {
+        mailbox.send(actor, Relocatable.class, consumer, null, "stateSnapshot(Object)");
+      } else {
+        mailbox.send(new LocalMessage<Relocatable>(actor, Relocatable.class, consumer, "stateSnapshot(Object)"));
+      }
+    }
   }
 
   /**
@@ -885,12 +1471,35 @@ public class Stage implements Stoppable {
           evictionConfiguration.excludedStageNames(),
           evictionConfiguration.lruProbeInterval(),
           evictionConfiguration.lruThreshold(),
-          evictionConfiguration.fullRatioHighMark());
+          evictionConfiguration.fullRatioHighMark(),
+          evictionConfiguration.lruEvictionBatchSize())
+        .maxEvictionRatio(evictionConfiguration.maxEvictionRatio())
+        .heapPressureNotifications(evictionConfiguration.heapPressureNotifications())
+        .passivateTo(evictionConfiguration.passivationStore());
     }
 
     return maybeEvictionConfiguration;
   }
 
+  private static DirectoryConfiguration directoryConfigurationOf(final World world, final String name) {
+    final Configuration configuration = world.configuration();
+    final DirectoryConfiguration directoryConfiguration =
+            configuration == null ? null : configuration.directoryConfigurationFor(name);
+    return directoryConfiguration == null ? DirectoryConfiguration.define() : directoryConfiguration;
+  }
+
+  private static Scheduler schedulerFor(final World world, final String name) {
+    final Configuration configuration = world == null ? null : world.configuration();
+    return configuration == null || configuration.schedulerTick() == 0 ?
+            new Scheduler() :
+            new TimingWheelScheduler(name, configuration.schedulerTick(), world::defaultLogger);
+  }
+
+  private DirectoryScanner directoryScannerFor(final Address address) {
+    final DirectoryScanner[] scanners = directoryScanners;
+    return scanners[(address.hashCode() & Integer.MAX_VALUE) % scanners.length];
+  }
+
   private boolean supportsEvictions(final DirectoryEvictionConfiguration evictionConfiguration) {
     if (evictionConfiguration == null) {
       return false;
@@ -928,15 +1537,11 @@ public class Stage implements Stoppable {
   }
 
   Actor rawLookupOrStart(Definition definition, Address address) {
-    Actor actor = directory.actorOf(address);
-    if (actor != null) {
-      return actor;
-    }
-    try {
-      return createRawActor(definition, definition.parentOr(world.defaultParent()), address, null, definition.supervisor(), world.defaultLogger());
-    } catch (Directory.ActorAddressAlreadyRegistered ignored) {
-      return rawLookupOrStart(definition, address);
-    }
+    return lookupOrCreateRawActor(
+            definition,
+            address,
+            (absent) -> ActorFactory.actorMailbox(this, absent, definition, mailboxWrapper()),
+            world.defaultLogger());
   }
 
   <T> T lookupOrStart(Class<T> protocol, Definition definition, Address address) {
@@ -944,39 +1549,41 @@ public class Stage implements Stoppable {
   }
 
   <T> Actor actorLookupOrStart(Definition definition, Address address) {
-    Actor actor = directory.actorOf(address);
-    if (actor != null) {
-      return actor;
-    }
-    else {
-      try {
-        actorFor(Startable.class, definition, address);
-        return directory.actorOf(address);
-      }
-      catch (Directory.ActorAddressAlreadyRegistered ignored) {
-        return actorLookupOrStart(definition, address);
-      }
-    }
+    return lookupOrCreateRawActor(
+            definition,
+            allocateAddress(definition, address),
+            (absent) -> ActorFactory.actorMailbox(this, absent, definition, mailboxWrapper()),
+            definition.loggerOr(world.defaultLogger()));
   }
 
   <T> T lookupOrStartThunk(Class<T> protocol, Definition definition, Address address) {
     return actorAs(actorLookupOrStartThunk(definition, address), protocol);
   }
 
-  Actor actorLookupOrStartThunk(Definition definition, Address address) {
-    Actor actor = directory.actorOf(address);
+  /**
+   * Answers the {@code Actor} of {@code address} from my {@code Directory}, having first
+   * reactivated it if it is passivated, or {@code null} if not found. (INTERNAL ONLY)
+   * @param address the Address of the Actor to find
+   * @return Actor
+   */
+  Actor liveActorOf(final Address address) {
+    final Actor actor = directory.actorOf(address);
+
     if (actor != null) {
       return actor;
     }
-    else {
-      try {
-        actorThunkFor(Startable.class, definition, address);
-        return directory.actorOf(address);
-      }
-      catch (Directory.ActorAddressAlreadyRegistered ignored) {
-        return actorLookupOrStartThunk(definition, address);
-      }
-    }
+
+    final Definition passivated = directory.tombstoneOf(address);
+
+    return passivated == null ? null : actorLookupOrStartThunk(passivated, address);
+  }
+
+  Actor actorLookupOrStartThunk(Definition definition, Address address) {
+    return lookupOrCreateRawActor(
+            definition,
+            address,
+            (absent) -> allocateMailbox(definition, absent, null),
+            definition.loggerOr(world.defaultLogger()));
   }
 
   /**
@@ -1017,6 +1624,10 @@ public class Stage implements Stoppable {
       this.protocolActor = protocol;
     }
 
+    Actor actor() {
+      return actor;
+    }
+
     public T protocolActor() {
       return protocolActor;
     }
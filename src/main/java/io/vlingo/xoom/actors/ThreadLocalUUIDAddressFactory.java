@@ -0,0 +1,75 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+import io.vlingo.xoom.common.identity.IdentityGeneratorType;
+
+/**
+ * A {@code UUIDAddressFactory} whose unique ids are generated without any shared
+ * state or hashing. Each thread draws a random version 4 most significant half
+ * once, and answers its own sequence in the least significant half. A name given
+ * to {@code uniqueWith()} is only the name of the {@code Address}, not the source
+ * of its id.
+ * <p>
+ * The version bits of every such id differ from those of the reserved ids answered
+ * by {@code from(reservedId, name)} and {@code withHighId()}, so the two never meet.
+ */
+public class ThreadLocalUUIDAddressFactory extends UUIDAddressFactory {
+  private static final SecureRandom Seeds = new SecureRandom();
+
+  private final ThreadLocal<Sequence> sequences;
+
+  public ThreadLocalUUIDAddressFactory() {
+    super(IdentityGeneratorType.RANDOM);
+    this.sequences = ThreadLocal.withInitial(Sequence::new);
+  }
+
+  @Override
+  public Address unique() {
+    return new UUIDAddress(sequences.get().next());
+  }
+
+  @Override
+  public Address uniquePrefixedWith(final String prefixedWith) {
+    return new UUIDAddress(sequences.get().next(), prefixedWith, true);
+  }
+
+  @Override
+  public Address uniqueWith(final String name) {
+    return new UUIDAddress(sequences.get().next(), name);
+  }
+
+  private static final class Sequence {
+    private static final long Version4 = 0x0000_0000_0000_4000L;
+    private static final long VersionMask = 0x0000_0000_0000_F000L;
+    private static final long VariantIETF = 0x8000_0000_0000_0000L;
+    private static final long VariantMask = 0xC000_0000_0000_0000L;
+
+    private long mostSignificantBits;
+    private long next;
+
+    Sequence() {
+      reseed();
+    }
+
+    UUID next() {
+      if ((next & VariantMask) != 0) {
+        reseed();
+      }
+      return new UUID(mostSignificantBits, next++ | VariantIETF);
+    }
+
+    private void reseed() {
+      this.mostSignificantBits = (Seeds.nextLong() & ~VersionMask) | Version4;
+      this.next = 0;
+    }
+  }
+}
@@ -0,0 +1,359 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import io.vlingo.xoom.common.Cancellable;
+import io.vlingo.xoom.common.Scheduled;
+import io.vlingo.xoom.common.Scheduler;
+
+/**
+ * A {@code Scheduler} backed by a hierarchical hashed timing wheel that is advanced by a
+ * single ticker thread every {@code tickMillis}. Scheduling and cancelling are O(1) and
+ * lock free for the caller, which only enqueues the timer or its cancellation for the
+ * ticker. Each level of the wheel has {@code 2^slotBits} slots, each spanning the whole
+ * range of the level below, and a timer is placed at the lowest level whose range covers
+ * its remaining ticks. When the lower level wraps around, the next slot of the level above
+ * is cascaded down, so each timer is moved at most once per level.
+ * <p>
+ * An expired timer is signaled directly on the ticker thread. When its {@code Scheduled}
+ * is an actor proxy, as it is for {@code Scheduled} actors, the signal is enqueued into the
+ * actor's mailbox without any further hop. Therefore a {@code Scheduled} that is not an
+ * actor must not block. A {@code Scheduled} that fails is logged, and an {@code Error}
+ * also ends the ticker.
+ * <p>
+ * Timers are accurate to one tick, and repeating timers are kept at a fixed rate.
+ */
+public class TimingWheelScheduler extends Scheduler {
+  public static final long DefaultTickMillis = 1L;
+
+  private static final int DefaultSlotBits = 6;
+  private static final int RangeBits = 42;
+
+  private final ConcurrentLinkedQueue<Timer<?>> additions;
+  private final ConcurrentLinkedQueue<Timer<?>> cancellations;
+  private final Timer<?>[][] heads;
+  private final int levels;
+  private final long maximumDelta;
+  private final int slotBits;
+  private final int slotMask;
+  private final long startNanos;
+  private final Timer<?>[][] tails;
+  private final Thread ticker;
+  private final long tickNanos;
+  private final Supplier<Logger> logger;
+
+  private volatile boolean idle;
+  private volatile boolean running;
+
+  // only accessed by the ticker thread
+  private long now;
+  private long pending;
+
+  /**
+   * Constructs my default state using {@code name} for my ticker thread and a tick of {@code tickMillis}.
+   * @param name the String name of my owner, such as of the {@code Stage}
+   * @param tickMillis the long milliseconds between ticks, which must be greater than zero
+   */
+  public TimingWheelScheduler(final String name, final long tickMillis) {
+    this(name, tickMillis, Logger::basicLogger);
+  }
+
+  /**
+   * Constructs my default state using {@code name} for my ticker thread, a tick of {@code tickMillis},
+   * and the {@code Logger} answered by {@code logger} for the failures of signaled {@code Scheduled}.
+   * @param name the String name of my owner, such as of the {@code Stage}
+   * @param tickMillis the long milliseconds between ticks, which must be greater than zero
+   * @param logger the {@code Supplier<Logger>} of the Logger of my failures, such as of the {@code World}
+   */
+  public TimingWheelScheduler(final String name, final long tickMillis, final Supplier<Logger> logger) {
+    this(name, tickMillis, DefaultSlotBits, logger);
+  }
+
+  TimingWheelScheduler(final String name, final long tickMillis, final int slotBits, final Supplier<Logger> logger) {
+    if (tickMillis <= 0) {
+      throw new IllegalArgumentException("Tick must be greater than zero.");
+    }
+
+    this.additions = new ConcurrentLinkedQueue<>();
+    this.cancellations = new ConcurrentLinkedQueue<>();
+    this.levels = (RangeBits + slotBits - 1) / slotBits;
+    this.maximumDelta = (1L << Math.min(62, slotBits * levels)) - 1;
+    this.slotBits = slotBits;
+    this.slotMask = (1 << slotBits) - 1;
+    this.heads = new Timer<?>[levels][1 << slotBits];
+    this.tails = new Timer<?>[levels][1 << slotBits];
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+    this.logger = logger;
+    this.startNanos = System.nanoTime();
+    this.now = 0;
+    this.pending = 0;
+    this.running = true;
+    this.ticker = new Thread(this::run, "xoom-timing-wheel-" + name);
+    this.ticker.setDaemon(true);
+    this.ticker.start();
+  }
+
+  @Override
+  public <T> Cancellable schedule(final Scheduled<T> scheduled, final T data, final long delayBefore, final long interval) {
+    if (interval <= 0) {
+      throw new IllegalArgumentException("Interval must be greater than zero.");
+    }
+    return add(new Timer<>(this, scheduled, data, delayBefore, TimeUnit.MILLISECONDS.toNanos(interval)));
+  }
+
+  @Override
+  public <T> Cancellable scheduleOnce(final Scheduled<T> scheduled, final T data, final long delayBefore, final long interval) {
+    return add(new Timer<>(this, scheduled, data, delayBefore + interval, 0));
+  }
+
+  @Override
+  public <T> Cancellable schedule(final Scheduled<T> scheduled, final T data, final Duration delayBefore, final Duration interval) {
+    return schedule(scheduled, data, delayBefore.toMillis(), interval.toMillis());
+  }
+
+  @Override
+  public <T> Cancellable scheduleOnce(final Scheduled<T> scheduled, final T data, final Duration delayBefore, final Duration interval) {
+    return scheduleOnce(scheduled, data, delayBefore.toMillis(), interval.toMillis());
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    LockSupport.unpark(ticker);
+    super.close();
+  }
+
+  private <T> Timer<T> add(final Timer<T> timer) {
+    additions.offer(timer);
+    if (idle) {
+      LockSupport.unpark(ticker);
+    }
+    return timer;
+  }
+
+  private void run() {
+    while (running) {
+      drainCancellations();
+      drainAdditions();
+
+      final long target = ticksAt(System.nanoTime());
+
+      if (pending == 0) {
+        now = Math.max(now, target);
+      }
+
+      while (now < target) {
+        advance();
+      }
+
+      await();
+    }
+  }
+
+  private void advance() {
+    ++now;
+
+    int highest = 0;
+    while (highest < levels - 1 && (now & ((1L << (slotBits * (highest + 1))) - 1)) == 0) {
+      ++highest;
+    }
+
+    // cascade from the top such that no timer is moved into a slot already cascaded
+    for (int level = highest; level > 0; --level) {
+      Timer<?> timer = detachSlot(level, (int) ((now >>> (slotBits * level)) & slotMask));
+      while (timer != null) {
+        final Timer<?> next = timer.next;
+        timer.next = null;
+        if (timer.state == Timer.Active) {
+          link(timer);
+        }
+        timer = next;
+      }
+    }
+
+    Timer<?> timer = detachSlot(0, (int) (now & slotMask));
+    while (timer != null) {
+      final Timer<?> next = timer.next;
+      timer.next = null;
+      expire(timer);
+      timer = next;
+    }
+  }
+
+  private void await() {
+    if (pending == 0 && additions.isEmpty()) {
+      idle = true;
+      if (additions.isEmpty() && running) {
+        LockSupport.park(this);
+      }
+      idle = false;
+    } else {
+      final long untilNextTick = startNanos + (now + 1) * tickNanos - System.nanoTime();
+      if (untilNextTick > 0) {
+        LockSupport.parkNanos(this, untilNextTick);
+      }
+    }
+  }
+
+  private Timer<?> detachSlot(final int level, final int slot) {
+    final Timer<?> head = heads[level][slot];
+    if (head != null) {
+      heads[level][slot] = null;
+      tails[level][slot] = null;
+      for (Timer<?> timer = head; timer != null; timer = timer.next) {
+        timer.prev = null;
+        timer.linked = false;
+        --pending;
+      }
+    }
+    return head;
+  }
+
+  private void drainAdditions() {
+    Timer<?> timer;
+    while ((timer = additions.poll()) != null) {
+      if (timer.state != Timer.Active) {
+        continue;
+      }
+      timer.deadline = ticksAt(timer.deadlineNanos - 1) + 1;
+      if (timer.deadline <= now) {
+        expire(timer);
+      } else {
+        link(timer);
+      }
+    }
+  }
+
+  private void drainCancellations() {
+    Timer<?> timer;
+    while ((timer = cancellations.poll()) != null) {
+      if (timer.linked) {
+        unlink(timer);
+      }
+    }
+  }
+
+  private void expire(final Timer<?> timer) {
+    if (timer.intervalNanos > 0) {
+      if (timer.state != Timer.Active) {
+        return;
+      }
+      timer.deadlineNanos += timer.intervalNanos;
+      timer.deadline = Math.max(now + 1, ticksAt(timer.deadlineNanos - 1) + 1);
+      link(timer);
+    } else if (!Timer.StateUpdater.compareAndSet(timer, Timer.Active, Timer.Done)) {
+      return;
+    }
+
+    try {
+      timer.signal();
+    } catch (Throwable t) {
+      logger.get().error("Timing wheel failed to signal " + timer.scheduled + " because: " + t.getMessage(), t);
+      // other timers are still signaled following an exception, but not an Error
+      if (t instanceof Error) {
+        throw (Error) t;
+      }
+    }
+  }
+
+  private void link(final Timer<?> timer) {
+    final long delta = Math.min(Math.max(0, timer.deadline - now), maximumDelta);
+    final int level = delta == 0 ? 0 : (63 - Long.numberOfLeadingZeros(delta)) / slotBits;
+    final int slot = (int) (((now + delta) >>> (slotBits * level)) & slotMask);
+
+    final Timer<?> tail = tails[level][slot];
+    timer.prev = tail;
+    timer.next = null;
+    if (tail == null) {
+      heads[level][slot] = timer;
+    } else {
+      tail.next = timer;
+    }
+    tails[level][slot] = timer;
+    timer.level = level;
+    timer.slot = slot;
+    timer.linked = true;
+    ++pending;
+  }
+
+  private long ticksAt(final long nanos) {
+    return Math.floorDiv(nanos - startNanos, tickNanos);
+  }
+
+  private void unlink(final Timer<?> timer) {
+    if (timer.prev == null) {
+      heads[timer.level][timer.slot] = timer.next;
+    } else {
+      timer.prev.next = timer.next;
+    }
+    if (timer.next == null) {
+      tails[timer.level][timer.slot] = timer.prev;
+    } else {
+      timer.next.prev = timer.prev;
+    }
+    timer.prev = null;
+    timer.next = null;
+    timer.linked = false;
+    --pending;
+  }
+
+  private static final class Timer<T> implements Cancellable {
+    static final int Active = 0;
+    static final int Cancelled = 1;
+    static final int Done = 2;
+
+    @SuppressWarnings("rawtypes")
+    static final AtomicIntegerFieldUpdater<Timer> StateUpdater = AtomicIntegerFieldUpdater.newUpdater(Timer.class, "state");
+
+    final T data;
+    final long intervalNanos;
+    final Scheduled<T> scheduled;
+    final TimingWheelScheduler scheduler;
+
+    volatile int state;
+
+    // only accessed by the ticker thread after being added
+    long deadline;
+    long deadlineNanos;
+    int level;
+    boolean linked;
+    Timer<?> next;
+    Timer<?> prev;
+    int slot;
+
+    Timer(final TimingWheelScheduler scheduler, final Scheduled<T> scheduled, final T data, final long delayMillis, final long intervalNanos) {
+      this.scheduler = scheduler;
+      this.scheduled = scheduled;
+      this.data = data;
+      this.intervalNanos = intervalNanos;
+      this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+      this.state = Active;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean cancel() {
+      if (StateUpdater.compareAndSet(this, Active, Cancelled)) {
+        scheduler.cancellations.offer(this);
+        return true;
+      }
+      return false;
+    }
+
+    void signal() {
+      scheduled.intervalSignal(scheduled, data);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import io.vlingo.xoom.actors.ProxyGenerator.Delegation;
+
+/**
+ * The activation of a virtual {@code Actor}, which is addressable before it exists.
+ * The backing {@code Actor} is instantiated from its {@code Definition} only when the
+ * first message is sent to it, and is instantiated again on the next message after it
+ * has been stopped, such as by passivation or eviction. Until then only this and its
+ * generated virtual proxy exist; there is no {@code Actor}, {@code Environment}, or
+ * {@code Mailbox}. The virtual proxy sends each message by a direct call on the proxy
+ * answered by {@link #activated()}. (INTERNAL ONLY)
+ */
+public final class VirtualActorProxy {
+  private final Address address;
+  private final Definition definition;
+  private final Class<?> protocol;
+  private final Stage stage;
+
+  private volatile Actor actor;
+  private volatile Object delegate;
+
+  static <T> T newFor(final Stage stage, final Class<T> protocol, final Definition definition, final Address address) {
+    return ActorProxy.createDelegatingFor(protocol, Delegation.Virtual, new VirtualActorProxy(stage, protocol, definition, address), stage.world());
+  }
+
+  /**
+   * Answers my {@code Address}, which is the {@code Address} of my backing {@code Actor}.
+   * @return Address
+   */
+  public Address address() {
+    return address;
+  }
+
+  /**
+   * Answers the protocol proxy of my backing {@code Actor}, which is instantiated
+   * if it does not exist or has been stopped. (INTERNAL ONLY)
+   * @return Object
+   */
+  public Object activated() {
+    final Actor current = actor;
+
+    if (current != null && !current.isStopped()) {
+      return delegate;
+    }
+
+    synchronized (this) {
+      if (actor == null || actor.isStopped()) {
+        final Actor activated = stage.actorLookupOrStartThunk(definition, address);
+        delegate = stage.actorAs(activated, protocol);
+        actor = activated;
+      }
+      return delegate;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "VirtualActor[protocol=" + protocol.getSimpleName() + " address=" + address + "]";
+  }
+
+  /**
+   * Answers whether or not my backing {@code Actor} currently exists.
+   * @return boolean
+   */
+  boolean isActive() {
+    final Actor current = actor;
+    return current != null && !current.isStopped();
+  }
+
+  private VirtualActorProxy(final Stage stage, final Class<?> protocol, final Definition definition, final Address address) {
+    this.stage = stage;
+    this.protocol = protocol;
+    this.definition = definition;
+    this.address = address;
+  }
+}
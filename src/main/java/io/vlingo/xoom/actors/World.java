@@ -34,6 +34,7 @@ public final class World implements Registrar {
   static final String DEFAULT_STAGE = "__defaultStage";
 
   private final AddressFactory addressFactory;
+  private final CoarseClock clock;
   private final Configuration configuration;
   private final PluginScanner pluginScanner;
   private final String name;
@@ -42,6 +43,7 @@ public final class World implements Registrar {
 
   private ClassLoader classLoader;
   private CompletesEventuallyProviderKeeper completesProviderKeeper;
+  private volatile boolean completesShardedBySender;
   private DeadLetters deadLetters;
   private Logger defaultLogger;
   private Actor defaultParent;
@@ -191,6 +193,14 @@ public final class World implements Registrar {
     return addressFactory;
   }
 
+  /**
+   * Answers the {@code CoarseClock} of this {@code World}.
+   * @return {@code CoarseClock}
+   */
+  public CoarseClock clock() {
+    return clock;
+  }
+
   /**
    * Answers the {@code Configuration} for this {@code World}.
    * @return {@code Configuration}
@@ -231,6 +241,17 @@ public final class World implements Registrar {
     return completesProviderKeeper.findDefault().provideCompletesFor(address, clientReturns);
   }
 
+  /**
+   * Answers whether the registered {@code CompletesEventuallyProvider} selects the
+   * {@code CompletesEventually} of each outcome by the {@code Address} of its sender,
+   * as cached when the provider was registered by the starting plugins, rather than
+   * looked up on each outcome.
+   * @return boolean
+   */
+  boolean completesShardedBySender() {
+    return completesShardedBySender;
+  }
+
   /**
    * Answers the default {@code Logger} that is registered with this {@code World}. The
    * {@code Logger} protocol is implemented by an {@code Actor} such that all logging is
@@ -305,6 +326,7 @@ public final class World implements Registrar {
   public void register(final String name, final CompletesEventuallyProvider completesEventuallyProvider) {
     completesEventuallyProvider.initializeUsing(stage());
     this.completesProviderKeeper.keep(name, completesEventuallyProvider);
+    this.completesShardedBySender = completesEventuallyProvider.isShardedBySender();
   }
 
   /**
@@ -376,6 +398,7 @@ public final class World implements Registrar {
       this.completesProviderKeeper.close();
     }
     this.completesProviderKeeper = keeper;
+    this.completesShardedBySender = false;
   }
 
   /**
@@ -506,6 +529,8 @@ public final class World implements Registrar {
       loggerProviderKeeper.close();
       mailboxProviderKeeper.close();
       completesProviderKeeper.close();
+
+      clock.stop();
     }
   }
 
@@ -645,7 +670,8 @@ public final class World implements Registrar {
     this.name = name;
     this.configuration = configuration;
     this.pluginScanner = new PluginScanner(configuration, this);
-    this.addressFactory = configuration.addressFactoryOr(BasicAddressFactory::new);
+    this.addressFactory = configuration.addressFactoryOr(() -> new BasicAddressFactory(configuration.addressIdBlockSize()));
+    this.clock = CoarseClock.start(configuration.clockResolution());
     this.completesProviderKeeper = new DefaultCompletesEventuallyProviderKeeper();
     this.loggerProviderKeeper = new DefaultLoggerProviderKeeper();
     this.mailboxProviderKeeper = new DefaultMailboxProviderKeeper();
@@ -8,6 +8,7 @@
 package io.vlingo.xoom.actors;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 public class __InternalOnlyAccessor {
   public static Mailbox actorMailbox(final Actor actor) {
@@ -26,6 +27,10 @@ public class __InternalOnlyAccessor {
     return stage.directory.addresses();
   }
 
+  public static Stream<Actor> allActors(final Stage stage, final boolean parallel) {
+    return stage.directory.actors(parallel);
+  }
+
   public static ClassLoader classLoader(final Stage stage) {
     return stage.world.classLoader();
   }
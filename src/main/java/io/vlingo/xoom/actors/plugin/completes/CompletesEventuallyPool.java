@@ -9,12 +9,15 @@ package io.vlingo.xoom.actors.plugin.completes;
 
 import io.vlingo.xoom.actors.*;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class CompletesEventuallyPool implements CompletesEventuallyProvider {
   private final AtomicLong completesEventuallyId;
   private final String mailboxName;
   private final CompletesEventually[] pool;
+  private final Map<Address,CompletesEventually> poolByAddress;
   private final AtomicLong poolIndex;
   private final long poolSize;
 
@@ -24,6 +27,7 @@ public class CompletesEventuallyPool implements CompletesEventuallyProvider {
     this.mailboxName = mailboxName;
     this.poolIndex = new AtomicLong(0);
     this.pool = new CompletesEventually[poolSize];
+    this.poolByAddress = new HashMap<>(poolSize * 2);
   }
 
   @Override
@@ -50,6 +54,7 @@ public class CompletesEventuallyPool implements CompletesEventuallyProvider {
                               CompletesEventuallyActor::new,
                               mailboxName,
                               "completes-eventually-" + (idx + 1)));
+      poolByAddress.put(pool[idx].address(), pool[idx]);
     }
   }
 
@@ -70,11 +75,7 @@ public class CompletesEventuallyPool implements CompletesEventuallyProvider {
   }
 
   private CompletesEventually completesEventuallyOf(final Address address) {
-    for (final CompletesEventually completesEventually : pool) {
-      if (completesEventually.address().equals(address)) {
-        return completesEventually;
-      }
-    }
-    return completesEventually();
+    final CompletesEventually completesEventually = poolByAddress.get(address);
+    return completesEventually != null ? completesEventually : completesEventually();
   }
 }
@@ -47,7 +47,9 @@ public class PooledCompletesPlugin extends AbstractPlugin implements Plugin {
 
   @Override
   public void start(final Registrar registrar) {
-    this.completesEventuallyProvider = new CompletesEventuallyPool(this.pooledCompletesPluginConfiguration.poolSize, this.pooledCompletesPluginConfiguration.mailbox);
+    this.completesEventuallyProvider = this.pooledCompletesPluginConfiguration.sharded ?
+            new ShardedCompletesEventuallyPool(this.pooledCompletesPluginConfiguration.poolSize, this.pooledCompletesPluginConfiguration.mailbox) :
+            new CompletesEventuallyPool(this.pooledCompletesPluginConfiguration.poolSize, this.pooledCompletesPluginConfiguration.mailbox);
     registrar.register(pooledCompletesPluginConfiguration.name(), completesEventuallyProvider);
   }
 
@@ -72,6 +74,7 @@ public class PooledCompletesPlugin extends AbstractPlugin implements Plugin {
     private String mailbox;
     private String name = "pooledCompletes";
     private int poolSize;
+    private boolean sharded;
 
     public static PooledCompletesPluginConfiguration define() {
       return new PooledCompletesPluginConfiguration();
@@ -95,6 +98,22 @@ public class PooledCompletesPlugin extends AbstractPlugin implements Plugin {
       return poolSize;
     }
 
+    /**
+     * Answers myself after setting whether outcomes are sharded over the pool by the
+     * {@code Address} of the answering actor, in which case the pool size is rounded
+     * up to a power of two, and when zero scales with the available processors.
+     * @param sharded the boolean indicating whether outcomes are sharded
+     * @return PooledCompletesPluginConfiguration
+     */
+    public PooledCompletesPluginConfiguration sharded(final boolean sharded) {
+      this.sharded = sharded;
+      return this;
+    }
+
+    public boolean isSharded() {
+      return sharded;
+    }
+
     @Override
     public void build(final Configuration configuration) {
       configuration.with(mailbox("queueMailbox").poolSize(10));
@@ -105,6 +124,7 @@ public class PooledCompletesPlugin extends AbstractPlugin implements Plugin {
       this.name = properties.name;
       this.poolSize = properties.getInteger("pool", 10);
       this.mailbox = properties.getString("mailbox", null);
+      this.sharded = properties.getBoolean("sharded", false);
       configuration.with(this);
     }
 
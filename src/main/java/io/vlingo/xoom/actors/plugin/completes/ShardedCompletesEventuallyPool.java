@@ -0,0 +1,158 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.completes;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vlingo.xoom.actors.Address;
+import io.vlingo.xoom.actors.CompletesEventually;
+import io.vlingo.xoom.actors.CompletesEventuallyActor;
+import io.vlingo.xoom.actors.CompletesEventuallyProvider;
+import io.vlingo.xoom.actors.Definition;
+import io.vlingo.xoom.actors.PooledCompletes;
+import io.vlingo.xoom.actors.Returns;
+import io.vlingo.xoom.actors.Stage;
+
+/**
+ * A {@code CompletesEventuallyProvider} whose pool of {@code CompletesEventually} actors
+ * is a power of two in size, and that selects the shard of an outcome by the hash of the
+ * {@code Address} of the actor that answered it. All outcomes of a given actor are thereby
+ * completed in order by the same shard, while different actors are spread evenly over all
+ * shards rather than pinned to whichever pooled actor each first happened to get.
+ */
+public class ShardedCompletesEventuallyPool implements CompletesEventuallyProvider {
+  private final AtomicLong completesEventuallyId;
+  private final AtomicInteger[] depths;
+  private final String mailboxName;
+  private final int mask;
+  private final CompletesEventually[] pool;
+  private final AtomicLong poolIndex;
+
+  /**
+   * Answers the number of shards for the requested {@code poolSize}, which is the
+   * smallest power of two not less than it, or when not positive, not less than
+   * the number of available processors.
+   * @param poolSize the int requested pool size
+   * @return int
+   */
+  public static int shardsFor(final int poolSize) {
+    final int requested = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    return requested <= 1 ? 1 : Integer.highestOneBit(requested - 1) << 1;
+  }
+
+  ShardedCompletesEventuallyPool(final int poolSize, final String mailboxName) {
+    final int shards = shardsFor(poolSize);
+    this.completesEventuallyId = new AtomicLong(0);
+    this.depths = new AtomicInteger[shards];
+    this.mailboxName = mailboxName;
+    this.mask = shards - 1;
+    this.pool = new CompletesEventually[shards];
+    this.poolIndex = new AtomicLong(0);
+
+    for (int idx = 0; idx < shards; ++idx) {
+      depths[idx] = new AtomicInteger(0);
+    }
+  }
+
+  @Override
+  public void close() {
+    for (final CompletesEventually completes : pool) {
+      completes.stop();
+    }
+  }
+
+  @Override
+  public CompletesEventually completesEventually() {
+    return pool[(int) (poolIndex.incrementAndGet() & mask)];
+  }
+
+  @Override
+  public void initializeUsing(final Stage stage) {
+    for (int idx = 0; idx < pool.length; ++idx) {
+      pool[idx] =
+              stage.actorFor(
+                      CompletesEventually.class,
+                      Definition.has(
+                              CompletesEventuallyActor.class,
+                              CompletesEventuallyActor::new,
+                              mailboxName,
+                              "completes-eventually-shard-" + idx));
+    }
+  }
+
+  @Override
+  public boolean isShardedBySender() {
+    return true;
+  }
+
+  @Override
+  public CompletesEventually provideCompletesFor(final Returns<?> clientReturns) {
+    return provideCompletesOn((int) (poolIndex.incrementAndGet() & mask), clientReturns);
+  }
+
+  @Override
+  public CompletesEventually provideCompletesFor(final Address address, final Returns<?> clientReturns) {
+    return provideCompletesOn(shardOf(address), clientReturns);
+  }
+
+  /**
+   * Answers the number of outcomes that are provided to but not yet completed by the {@code shard}.
+   * @param shard the int index of the shard
+   * @return int
+   */
+  public int depthOf(final int shard) {
+    return depths[shard].get();
+  }
+
+  /**
+   * Answers the index of the shard that completes the outcomes answered by the actor at {@code address}.
+   * @param address the Address of the answering actor
+   * @return int
+   */
+  public int shardOf(final Address address) {
+    final int hash = address.hashCode();
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  /**
+   * Answers my number of shards, which is a power of two.
+   * @return int
+   */
+  public int shards() {
+    return pool.length;
+  }
+
+  private CompletesEventually provideCompletesOn(final int shard, final Returns<?> clientReturns) {
+    return new ShardedCompletes(completesEventuallyId.getAndIncrement(), clientReturns, pool[shard], depths[shard]);
+  }
+
+  private static final class ShardedCompletes extends PooledCompletes {
+    private final AtomicInteger depth;
+
+    ShardedCompletes(final long id, final Returns<?> clientReturns, final CompletesEventually completesEventually, final AtomicInteger depth) {
+      super(id, clientReturns, completesEventually);
+      this.depth = depth;
+    }
+
+    @Override
+    public void completeClient() {
+      try {
+        super.completeClient();
+      } finally {
+        depth.decrementAndGet();
+      }
+    }
+
+    @Override
+    public void with(final Object outcome) {
+      depth.incrementAndGet();
+      super.with(outcome);
+    }
+  }
+}
@@ -10,6 +10,7 @@ package io.vlingo.xoom.actors.plugin.mailbox.concurrentqueue;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.vlingo.xoom.actors.Dispatcher;
@@ -20,7 +21,12 @@ import io.vlingo.xoom.actors.plugin.mailbox.SuspendedDeliveryOverrides;
 import io.vlingo.xoom.actors.plugin.mailbox.SuspendedDeliveryOverrides.Overrides;
 
 public class ConcurrentQueueMailbox implements Mailbox, Runnable {
+  private static final AtomicIntegerFieldUpdater<ConcurrentQueueMailbox> Depth =
+          AtomicIntegerFieldUpdater.newUpdater(ConcurrentQueueMailbox.class, "depth");
+
   private AtomicBoolean delivering;
+  // counted because ConcurrentLinkedQueue.size() traverses the whole queue
+  private volatile int depth;
   private final Dispatcher dispatcher;
   private AtomicReference<SuspendedDeliveryOverrides> suspendedDeliveryOverrides;
   private final Queue<Message> queue;
@@ -29,6 +35,7 @@ public class ConcurrentQueueMailbox implements Mailbox, Runnable {
   @Override
   public void close() {
     queue.clear();
+    depth = 0;
   }
 
   @Override
@@ -58,8 +65,10 @@ public class ConcurrentQueueMailbox implements Mailbox, Runnable {
         }
         return;
       }
+      Depth.incrementAndGet(this);
       queue.add(message);
     } else {
+      Depth.incrementAndGet(this);
       queue.add(message);
       if (!isDelivering()) {
         dispatcher.execute(this);
@@ -84,7 +93,11 @@ public class ConcurrentQueueMailbox implements Mailbox, Runnable {
 
   @Override
   public Message receive() {
-    return queue.poll();
+    final Message message = queue.poll();
+    if (message != null) {
+      Depth.decrementAndGet(this);
+    }
+    return message;
   }
 
   @Override
@@ -117,7 +130,7 @@ public class ConcurrentQueueMailbox implements Mailbox, Runnable {
   /* @see io.vlingo.xoom.actors.Mailbox#pendingMessages() */
   @Override
   public int pendingMessages() {
-    return queue.size();
+    return Math.max(0, depth);
   }
 
   ConcurrentQueueMailbox(final Dispatcher dispatcher, final int throttlingCount) {
@@ -120,7 +120,7 @@ public class SharedRingBufferMailbox implements Mailbox {
   /* @see io.vlingo.xoom.actors.Mailbox#pendingMessages() */
   @Override
   public int pendingMessages() {
-    throw new UnsupportedOperationException("SharedRingBufferMailbox does not support this operation");
+    return (int) Math.max(0, readyIndex.get() - receiveIndex.get());
   }
 
   protected SharedRingBufferMailbox(final Dispatcher dispatcher, final int mailboxSize, final boolean notifyOnSend) {
@@ -11,6 +11,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
@@ -85,6 +86,26 @@ public class ActorEnvironmentTest extends ActorsTest {
     assertTrue(env.mailbox.isClosed());
   }
   
+  @Test
+  public void testLazyEnvironment() {
+    final Definition definition = Definition.has(EnvironmentProviderActor.class, EnvironmentProviderActor::new);
+
+    final Actor actor = world.stage().rawLookupOrStart(definition, world.addressFactory().uniqueWith("lazy-env"));
+    final Environment env = actor.lifeCycle.environment;
+
+    assertNull(env.children);
+    assertTrue(env.children().isEmpty());
+
+    final EnvironmentProvider proxy = world.stage().actorAs(actor, EnvironmentProvider.class);
+    assertSame(proxy, world.stage().actorAs(actor, EnvironmentProvider.class));
+    assertNotSame(proxy, world.stage().actorAs(actor, Stoppable.class));
+    assertSame(world.stage().actorAs(actor, Stoppable.class), world.stage().actorAs(actor, Stoppable.class));
+
+    assertSame(env.failureMark(), env.failureMark());
+    assertTrue(env.logger() instanceof ActorLoggerAdapter);
+    assertSame(env.logger(), env.logger());
+  }
+
   public static interface EnvironmentProvider { }
   
   public static class EnvironmentProviderActor extends Actor implements EnvironmentProvider {
@@ -114,6 +114,93 @@ public class ActorFactoryTest extends ActorsTest {
             world.defaultLogger());
   }
 
+  @Test
+  public void testActorForWithParametersReusesResolvedConstructor() throws Exception {
+    world.actorFor(ParentInterface.class, Definition.has(ParentInterfaceActor.class, Definition.NoParameters));
+
+    for (int count = 1; count <= 3; ++count) {
+      final Address address = world.addressFactory().uniqueWith("test-child-" + count);
+
+      final Definition definition =
+              Definition.has(
+                      TestInterfaceWithParamsActor.class,
+                      Definition.parameters("test-text-" + count, count),
+                      ParentInterfaceActor.instance.get(),
+                      address.name());
+
+      final Actor actor =
+              ActorFactory.actorFor(
+                      world.stage(),
+                      definition.parent(),
+                      definition,
+                      address,
+                      new TestMailbox(),
+                      null,
+                      world.defaultLogger());
+
+      assertNotNull(actor);
+      assertEquals(address, actor.address());
+      assertEquals("test-text-" + count, ((TestInterfaceWithParamsActor) actor).text);
+      assertEquals(count, ((TestInterfaceWithParamsActor) actor).val);
+    }
+  }
+
+  @Test
+  public void testActorForWithNullParameterIsResolvedEachTime() throws Exception {
+    world.actorFor(ParentInterface.class, Definition.has(ParentInterfaceActor.class, Definition.NoParameters));
+
+    final Object[] texts = new Object[] { "test-text-1", null, "test-text-3", null };
+
+    for (int count = 1; count <= texts.length; ++count) {
+      final Address address = world.addressFactory().uniqueWith("test-null-" + count);
+
+      final Definition definition =
+              Definition.has(
+                      TestInterfaceWithParamsActor.class,
+                      Definition.parameters(texts[count - 1], count),
+                      ParentInterfaceActor.instance.get(),
+                      address.name());
+
+      final Actor actor =
+              ActorFactory.actorFor(
+                      world.stage(),
+                      definition.parent(),
+                      definition,
+                      address,
+                      new TestMailbox(),
+                      null,
+                      world.defaultLogger());
+
+      assertEquals(texts[count - 1], ((TestInterfaceWithParamsActor) actor).text);
+      assertEquals(count, ((TestInterfaceWithParamsActor) actor).val);
+    }
+  }
+
+  @Test(expected = InstantiationException.class)
+  public void testConstructorFailureAfterResolved() throws Exception {
+    world.actorFor(ParentInterface.class, Definition.has(ParentInterfaceActor.class, Definition.NoParameters));
+
+    for (final int val : new int[] { 1, -1 }) {
+      final Address address = world.addressFactory().uniqueWith("test-actor-resolved-" + val);
+
+      final Definition definition =
+              Definition.has(
+                      SometimesFailureActor.class,
+                      Definition.parameters("test-ctor-failure", val),
+                      ParentInterfaceActor.instance.get(),
+                      address.name());
+
+      ActorFactory.actorFor(
+              world.stage(),
+              definition.parent(),
+              definition,
+              address,
+              new TestMailbox(),
+              null,
+              world.defaultLogger());
+    }
+  }
+
   public interface ParentInterface { }
   
   public static class ParentInterfaceActor extends Actor implements ParentInterface {
@@ -127,8 +214,12 @@ public class ActorFactoryTest extends ActorsTest {
   public static class TestInterfaceActor extends Actor implements TestInterface { }
   
   public static class TestInterfaceWithParamsActor extends Actor implements TestInterface {
-    public TestInterfaceWithParamsActor(final String text, final int val) {
+    final String text;
+    final int val;
 
+    public TestInterfaceWithParamsActor(final String text, final int val) {
+      this.text = text;
+      this.val = val;
     }
   }
   
@@ -137,4 +228,12 @@ public class ActorFactoryTest extends ActorsTest {
       throw new IllegalStateException("Failed in ctor with: " + text + " and: " + val);
     }
   }
+
+  public static class SometimesFailureActor extends Actor implements TestInterface {
+    public SometimesFailureActor(final String text, final int val) {
+      if (val < 0) {
+        throw new IllegalStateException("Failed in ctor with: " + text + " and: " + val);
+      }
+    }
+  }
 }
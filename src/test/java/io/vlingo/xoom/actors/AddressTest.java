@@ -10,6 +10,15 @@ package io.vlingo.xoom.actors;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 
@@ -56,4 +65,41 @@ public class AddressTest extends ActorsTest {
     
     assertEquals(id, address.hashCode());
   }
+
+  @Test
+  public void testIdBlocksAreUnique() throws Exception {
+    final AddressFactory addressFactory = new BasicAddressFactory(100);
+    final Set<Long> ids = ConcurrentHashMap.newKeySet();
+    final int threads = 8;
+    final int perThread = 10_050;
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final List<Future<?>> futures = new ArrayList<>();
+    for (int thread = 0; thread < threads; ++thread) {
+      futures.add(executor.submit(() -> {
+        for (int idx = 0; idx < perThread; ++idx) {
+          ids.add(addressFactory.unique().id());
+        }
+      }));
+    }
+    for (final Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    assertEquals(threads * perThread, ids.size());
+    assertTrue(addressFactory.withHighId().id() > addressFactory.testNextIdValue());
+  }
+
+  @Test
+  public void testThatWorldUsesIdBlocks() {
+    final World blocked = World.start("id-blocks", Configuration.define().usingAddressIdBlockSize(1_000));
+
+    final Address address = blocked.addressFactory().unique();
+
+    assertEquals(address.id() + 1, blocked.addressFactory().unique().id());
+    assertTrue(blocked.addressFactory().toString().contains("idBlockSize=1000"));
+
+    blocked.terminate();
+  }
 }
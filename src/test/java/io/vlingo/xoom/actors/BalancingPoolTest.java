@@ -0,0 +1,205 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.testkit.AccessSafely;
+import io.vlingo.xoom.common.Completes;
+
+public class BalancingPoolTest extends ActorsTest {
+
+  @Test
+  public void testThatSlowWorkDoesNotHoldOtherWork() {
+    final int fastItems = 20;
+    final Results results = new Results(fastItems + 1);
+
+    final BalancingPool<Worker> pool = poolOf(2, results);
+
+    pool.proxy().work(-1, 300);
+    for (int item = 0; item < fastItems; ++item) {
+      pool.proxy().work(item, 0);
+    }
+
+    final List<Integer> items = results.access.readFrom("items");
+
+    assertEquals(fastItems + 1, items.size());
+    // all fast items are taken by the idle worker while the slow item is performed
+    assertEquals(-1, (int) items.get(fastItems));
+  }
+
+  @Test
+  public void testThatAllWorkersTakeWork() {
+    final int workers = 4;
+    final int items = 40;
+    final Results results = new Results(items);
+
+    final BalancingPool<Worker> pool = poolOf(workers, results);
+
+    assertEquals(workers, pool.workers().size());
+
+    for (int item = 0; item < items; ++item) {
+      pool.proxy().work(item, 10);
+    }
+
+    final Map<Address,Integer> counts = results.access.readFrom("counts");
+
+    assertEquals(workers, counts.size());
+
+    int total = 0;
+    for (final int count : counts.values()) {
+      assertTrue(count > 0);
+      total += count;
+    }
+    assertEquals(items, total);
+  }
+
+  @Test
+  public void testThatIdleWorkersAreQueuedOnce() {
+    final int workers = 2;
+    final int items = 200;
+    final Results results = new Results(items);
+
+    final BalancingPool<Worker> pool = poolOf(workers, results);
+
+    for (int item = 0; item < items; ++item) {
+      pool.proxy().work(item, 0);
+    }
+
+    final List<Integer> performed = results.access.readFrom("items");
+
+    assertEquals(items, performed.size());
+    assertTrue(pool.idleCount() <= workers);
+  }
+
+  @Test
+  public void testThatQueriesComplete() {
+    final BalancingPool<Worker> pool = poolOf(3, new Results(0));
+
+    for (int value = 0; value < 10; ++value) {
+      assertEquals(value * value, (int) pool.proxy().square(value).await());
+    }
+  }
+
+  @Test
+  public void testThatWorkIsDeadLetteredOnceAllWorkersStop() {
+    final int workers = 2;
+    final int items = 3;
+    final Results results = new Results(workers);
+
+    final BalancingPool<Worker> pool = poolOf(workers, results);
+
+    for (final Worker worker : pool.workers()) {
+      worker.stop();
+    }
+
+    assertEquals(workers, (int) results.access.readFrom("stopped"));
+
+    final List<String> rejected = new ArrayList<>();
+    final AccessSafely access = AccessSafely
+            .afterCompleting(items)
+            .writingWith("rejected", (String representation) -> rejected.add(representation))
+            .readingWith("rejected", () -> new ArrayList<>(rejected));
+
+    world.deadLetters().registerListener(
+            world.actorFor(DeadLettersListener.class, Definition.has(RejectedListenerActor.class, Definition.parameters(access))));
+
+    for (int item = 0; item < items; ++item) {
+      pool.proxy().work(item, 0);
+    }
+
+    final List<String> representations = access.readFrom("rejected");
+
+    assertEquals(items, representations.size());
+    for (final String representation : representations) {
+      assertEquals("work(int, int)", representation);
+    }
+  }
+
+  private BalancingPool<Worker> poolOf(final int workers, final Results results) {
+    // each worker has a thread of its own, such that a slow worker does not hold the others
+    return world.stage().balancingPoolFor(
+            new RouterSpecification<>(workers, Definition.has(WorkerActor.class, Definition.parameters(results), "arrayQueueMailbox", "worker"), Worker.class));
+  }
+
+  public interface Worker extends Stoppable {
+    void work(final int item, final int cost);
+    Completes<Integer> square(final int value);
+  }
+
+  public static class WorkerActor extends Actor implements Worker {
+    private final Results results;
+
+    public WorkerActor(final Results results) {
+      this.results = results;
+    }
+
+    @Override
+    public void work(final int item, final int cost) {
+      try {
+        Thread.sleep(cost);
+      } catch (InterruptedException e) {
+        // ignore
+      }
+      results.access.writeUsing("items", item, address());
+    }
+
+    @Override
+    public Completes<Integer> square(final int value) {
+      return completes().with(value * value);
+    }
+
+    @Override
+    protected void afterStop() {
+      results.access.writeUsing("stopped", address());
+    }
+  }
+
+  public static class RejectedListenerActor extends Actor implements DeadLettersListener {
+    private final AccessSafely access;
+
+    public RejectedListenerActor(final AccessSafely access) {
+      this.access = access;
+    }
+
+    @Override
+    public void handle(final DeadLetter deadLetter) {
+      if (deadLetter.representation.startsWith("work(")) {
+        access.writeUsing("rejected", deadLetter.representation);
+      }
+    }
+  }
+
+  public static class Results {
+    public final AccessSafely access;
+    private final Map<Address,Integer> counts = new HashMap<>();
+    private final List<Integer> items = new ArrayList<>();
+    private int stopped;
+
+    Results(final int totalItems) {
+      this.access = AccessSafely
+              .afterCompleting(totalItems)
+              .writingWith("items", (Integer item, Address address) -> {
+                items.add(item);
+                counts.merge(address, 1, Integer::sum);
+              })
+              .writingWith("stopped", (Address address) -> ++stopped)
+              .readingWith("items", () -> new ArrayList<>(items))
+              .readingWith("stopped", () -> stopped)
+              .readingWith("counts", () -> new HashMap<>(counts));
+    }
+  }
+}
@@ -0,0 +1,214 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.testkit.AccessSafely;
+import io.vlingo.xoom.common.Cancellable;
+import io.vlingo.xoom.common.Scheduled;
+
+public class CoalescingSchedulerTest extends ActorsTest {
+
+  @Test
+  public void testSameCadenceSharesOneTimer() {
+    final CoalescingScheduler coalescing = world.stage().coalescingScheduler();
+
+    assertSame(coalescing, world.stage().coalescingScheduler());
+
+    final Scheduled<Object> scheduled = (ignored, data) -> { };
+    final List<Cancellable> subscriptions = new ArrayList<>();
+
+    for (int count = 0; count < 1_000; ++count) {
+      subscriptions.add(coalescing.schedule(scheduled, null, 50));
+    }
+
+    assertEquals(1, coalescing.timerCount());
+
+    subscriptions.add(coalescing.schedule(scheduled, null, 10, 50));
+    subscriptions.add(coalescing.schedule(scheduled, null, 60, 50));
+
+    assertEquals(2, coalescing.timerCount());
+
+    for (final Cancellable subscription : subscriptions) {
+      assertTrue(subscription.cancel());
+      assertFalse(subscription.cancel());
+    }
+
+    assertEquals(0, coalescing.timerCount());
+  }
+
+  @Test
+  public void testConcurrentSubscriptionsShareOneTimer() throws Exception {
+    final TimingWheelScheduler scheduler = new TimingWheelScheduler("coalescing", 1);
+    final CoalescingScheduler coalescing = new CoalescingScheduler(scheduler, 100);
+
+    final Scheduled<Object> scheduled = (ignored, data) -> { };
+    final List<Cancellable> subscriptions = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch ready = new CountDownLatch(1);
+    final List<Thread> threads = new ArrayList<>();
+
+    for (int thread = 0; thread < 8; ++thread) {
+      threads.add(new Thread(() -> {
+        try {
+          ready.await();
+        } catch (InterruptedException e) {
+          // ignore
+        }
+        for (int count = 0; count < 100; ++count) {
+          subscriptions.add(coalescing.schedule(scheduled, null, 50));
+        }
+      }));
+    }
+
+    threads.forEach(Thread::start);
+    ready.countDown();
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(1, coalescing.timerCount());
+    assertEquals(800, subscriptions.size());
+
+    for (final Cancellable subscription : subscriptions) {
+      assertTrue(subscription.cancel());
+    }
+
+    assertEquals(0, coalescing.timerCount());
+
+    scheduler.close();
+  }
+
+  @Test
+  public void testFanOutInBatchesSignalsAll() {
+    final TimingWheelScheduler scheduler = new TimingWheelScheduler("coalescing", 1);
+    final CoalescingScheduler coalescing = new CoalescingScheduler(scheduler, 100);
+
+    final int total = 2_500;
+    final Set<Integer> signaled = ConcurrentHashMap.newKeySet();
+    final AccessSafely access = AccessSafely.afterCompleting(total);
+    access.writingWith("signaled", (Integer subscriber) -> signaled.add(subscriber));
+    access.readingWith("signaled", () -> signaled.size());
+
+    final Scheduled<Integer> scheduled = new Scheduled<Integer>() {
+      private final Set<Integer> first = ConcurrentHashMap.newKeySet();
+      @Override
+      public void intervalSignal(final Scheduled<Integer> scheduled, final Integer subscriber) {
+        if (first.add(subscriber)) {
+          access.writeUsing("signaled", subscriber);
+        }
+      }
+    };
+
+    for (int subscriber = 0; subscriber < total; ++subscriber) {
+      coalescing.schedule(scheduled, subscriber, 20);
+    }
+
+    assertEquals(total, (int) access.readFrom("signaled"));
+    assertEquals(1, coalescing.timerCount());
+
+    scheduler.close();
+  }
+
+  @Test
+  public void testThatSlowFanOutFiringsDoNotOverlap() throws Exception {
+    final TimingWheelScheduler scheduler = new TimingWheelScheduler("coalescing", 1);
+    final CoalescingScheduler coalescing = new CoalescingScheduler(scheduler, 10);
+
+    final int total = 50;
+    final List<Integer> signaled = Collections.synchronizedList(new ArrayList<>());
+
+    // each firing takes about ten times the interval to signal all subscriptions
+    final Scheduled<Integer> scheduled = (ignored, subscriber) -> {
+      signaled.add(subscriber);
+      try {
+        Thread.sleep(1);
+      } catch (InterruptedException e) {
+        // ignore
+      }
+    };
+
+    for (int subscriber = 0; subscriber < total; ++subscriber) {
+      coalescing.schedule(scheduled, subscriber, 5);
+    }
+
+    Thread.sleep(300);
+
+    scheduler.close();
+
+    final int[] counts = new int[total];
+    synchronized (signaled) {
+      for (final int subscriber : signaled) {
+        ++counts[subscriber];
+      }
+    }
+
+    int fewest = Integer.MAX_VALUE;
+    int most = 0;
+    for (final int count : counts) {
+      fewest = Math.min(fewest, count);
+      most = Math.max(most, count);
+    }
+
+    // every firing signals all subscriptions before the next begins, but the first may
+    // have missed those subscribed late, and the last may not have ended
+    assertTrue(fewest >= 2);
+    assertTrue(most - fewest <= 2);
+  }
+
+  @Test
+  public void testThatActorsTickTogether() {
+    final int total = 100;
+    final AccessSafely access = AccessSafely.afterCompleting(total);
+    final Set<Address> ticked = ConcurrentHashMap.newKeySet();
+    access.writingWith("ticked", (Address address) -> ticked.add(address));
+    access.readingWith("ticked", () -> ticked.size());
+
+    for (int count = 0; count < total; ++count) {
+      world.actorFor(Startable.class, TickingActor.class, access);
+    }
+
+    assertEquals(total, (int) access.readFrom("ticked"));
+    assertEquals(1, world.stage().coalescingScheduler().timerCount());
+  }
+
+  public static class TickingActor extends Actor implements Startable, Scheduled<Object> {
+    private final AccessSafely access;
+    private boolean ticked;
+
+    public TickingActor(final AccessSafely access) {
+      this.access = access;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void start() {
+      stage().coalescingScheduler().schedule(selfAs(Scheduled.class), null, 25);
+    }
+
+    @Override
+    public void intervalSignal(final Scheduled<Object> scheduled, final Object data) {
+      if (!ticked) {
+        ticked = true;
+        access.writeUsing("ticked", address());
+      }
+    }
+  }
+}
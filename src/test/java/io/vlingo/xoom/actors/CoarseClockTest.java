@@ -0,0 +1,117 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class CoarseClockTest {
+  @Test
+  public void testThatClockTicks() throws Exception {
+    final CoarseClock clock = CoarseClock.start(5);
+
+    assertEquals(5, clock.resolutionMillis());
+
+    final long start = clock.millis();
+    assertTrue(Math.abs(System.currentTimeMillis() - start) <= 1_000);
+
+    Thread.sleep(50);
+
+    assertTrue(clock.millis() > start);
+
+    clock.stop();
+  }
+
+  @Test
+  public void testThatStoppedClockReadsSystemClock() throws Exception {
+    final CoarseClock clock = CoarseClock.start(60_000);
+
+    Thread.sleep(20);
+
+    clock.stop();
+
+    final long before = System.currentTimeMillis();
+    final long millis = clock.millis();
+
+    assertTrue(before <= millis);
+  }
+
+  @Test
+  public void testThatDefaultWorldClockReadsSystemClock() {
+    final World world = World.start("clock-world", Configuration.define());
+
+    assertEquals(0, world.clock().resolutionMillis());
+
+    world.terminate();
+  }
+
+  @Test
+  public void testThatZeroResolutionReadsSystemClock() {
+    final CoarseClock clock = CoarseClock.start(0);
+
+    final long before = System.currentTimeMillis();
+    final long millis = clock.millis();
+    final long after = System.currentTimeMillis();
+
+    assertTrue(before <= millis && millis <= after);
+
+    clock.stop();
+  }
+
+  @Test
+  public void testThatWorldClockIsConfigured() {
+    final World world = World.start("clock-world", Configuration.define().usingClockResolution(10));
+
+    assertEquals(10, world.clock().resolutionMillis());
+    assertSame(world.clock(), world.stage().clock());
+
+    world.terminate();
+  }
+
+  @Test
+  public void testThatEachWorldKeepsItsOwnClock() throws Exception {
+    final World coarse = World.start("coarse-world", Configuration.define().usingClockResolution(10));
+    final World precise = World.start("precise-world", Configuration.define());
+
+    assertNotSame(coarse.clock(), precise.clock());
+    assertEquals(10, coarse.clock().resolutionMillis());
+    assertEquals(0, precise.clock().resolutionMillis());
+
+    precise.terminate();
+
+    final long start = coarse.clock().millis();
+    Thread.sleep(50);
+    assertTrue(coarse.clock().millis() > start);
+    assertEquals(10, coarse.stage().clock().resolutionMillis());
+
+    coarse.terminate();
+  }
+
+  @Test
+  public void testThatUnevictedStageSkipsTimestamps() {
+    final World world = World.start("clock-world", Configuration.define());
+
+    assertFalse(world.stage().supportsEvictions());
+
+    final Actor actor = world.stage().rawLookupOrStart(
+        Definition.has(DirectoryTest.TestInterfaceActor.class, DirectoryTest.TestInterfaceActor::new, true),
+        world.addressFactory().uniqueWith("unevicted"));
+
+    actor.lifeCycle.evictable.activeOn(0);
+    actor.lifeCycle.evictable.receivedMessage();
+
+    assertTrue(actor.lifeCycle.evictable.isStale(0));
+
+    world.terminate();
+  }
+}
@@ -11,6 +11,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -102,6 +104,42 @@ public class CompletesActorProtocolTest extends ActorsTest {
     assertEquals(Integer.valueOf(0), oneCompletes.outcome());
   }
 
+  @Test
+  public void testDirectCompletionKeepsOrder() {
+    final World directWorld = World.start("direct-completion", Configuration.define().usingDirectCompletion(true));
+
+    final TestResults testResults = TestResults.afterCompleting(2);
+
+    final UsesCompletes uc = directWorld.actorFor(UsesCompletes.class, UsesCompletesActor.class, testResults);
+
+    uc.getHello().andFinallyConsume((hello) -> testResults.setGreeting(hello.greeting));
+    uc.getOne().andFinallyConsume(testResults::setValue);
+
+    assertEquals(Hello, testResults.getGreeting());
+    assertEquals(1, testResults.getValue().intValue());
+
+    final int total = 1_000;
+    final List<Integer> sequence = new ArrayList<>(total);
+    final AccessSafely access = AccessSafely.afterCompleting(total);
+    access.writingWith("next", (Integer next) -> sequence.add(next));
+    access.readingWith("sequence", () -> sequence);
+
+    final Sequencer sequencer = directWorld.actorFor(Sequencer.class, SequencerActor.class);
+
+    for (int count = 0; count < total; ++count) {
+      sequencer.next().andThenConsume((Integer next) -> access.writeUsing("next", next));
+    }
+
+    final List<Integer> completed = access.readFrom("sequence");
+
+    assertEquals(total, completed.size());
+    for (int index = 0; index < total; ++index) {
+      assertEquals(index + 1, completed.get(index).intValue());
+    }
+
+    directWorld.terminate();
+  }
+
   public static class Hello {
     public final String greeting;
 
@@ -149,6 +187,19 @@ public class CompletesActorProtocolTest extends ActorsTest {
     }
   }
 
+  public static interface Sequencer {
+    Completes<Integer> next();
+  }
+
+  public static class SequencerActor extends Actor implements Sequencer {
+    private int current;
+
+    @Override
+    public Completes<Integer> next() {
+      return completes().with(++current);
+    }
+  }
+
   public static class UsesCompletesCausesTimeoutActor extends Actor implements UsesCompletes {
     private final TestResults results;
 
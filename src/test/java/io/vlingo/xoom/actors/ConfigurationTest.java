@@ -224,4 +224,39 @@ public class ConfigurationTest {
     final int expected = (int) (Runtime.getRuntime().availableProcessors() * numberOfDispatchersFactor);
     assertEquals(expected, mailbox.concurrencyCapacity());
   }
+
+  @Test
+  public void testThatDirectoryConfigurationIsPerStage() {
+    final Configuration configuration =
+            Configuration
+              .define()
+              .with(DirectoryConfiguration
+                      .define()
+                      .buckets(64)
+                      .initialCapacity(128))
+              .with(DirectoryConfiguration
+                      .define()
+                      .forStage("grid")
+                      .buckets(128)
+                      .initialCapacity(16_384)
+                      .growable(true));
+
+    assertEquals(64, configuration.directoryConfigurationFor("any").buckets());
+    assertEquals(128, configuration.directoryConfigurationFor("any").initialCapacity());
+    assertFalse(configuration.directoryConfigurationFor("any").isGrowable());
+
+    assertEquals(128, configuration.directoryConfigurationFor("grid").buckets());
+    assertEquals(16_384, configuration.directoryConfigurationFor("grid").initialCapacity());
+    assertTrue(configuration.directoryConfigurationFor("grid").isGrowable());
+
+    final World world = World.start("directory-config", configuration);
+
+    final Stage grid = world.stageNamed("grid");
+    final int count = grid.directory().count();
+
+    assertNotNull(grid.actorFor(NoProtocol.class, Definition.has(StageTest.ParentInterfaceActor.class, Definition.NoParameters)));
+    assertEquals(count + 1, grid.directory().count());
+
+    world.terminate();
+  }
 }
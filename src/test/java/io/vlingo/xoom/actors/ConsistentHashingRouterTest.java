@@ -0,0 +1,169 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.testkit.AccessSafely;
+import io.vlingo.xoom.common.Completes;
+
+/**
+ * ConsistentHashingRouterTest tests {@link ConsistentHashingRouter}.
+ */
+public class ConsistentHashingRouterTest extends ActorsTest {
+  private static final int Keys = 1_000;
+
+  @Test
+  public void testThatSameKeyReachesSameRoutee() {
+    final Keyed router = world.actorFor(Keyed.class, Definition.has(TestRouterActor.class, Definition.parameters(4)));
+
+    final Map<String,String> owners = ownersOf(router);
+    final Set<String> routees = new HashSet<>(owners.values());
+
+    assertEquals(4, routees.size());
+    assertEquals(owners, ownersOf(router));
+  }
+
+  @Test
+  public void testThatResizingOnlyMovesKeysOfChangedRoutee() {
+    final Keyed router = world.actorFor(Keyed.class, Definition.has(TestRouterActor.class, Definition.parameters(4)));
+
+    final Map<String,String> before = ownersOf(router);
+
+    final Keyed added = world.actorFor(Keyed.class, TestRouteeActor.class);
+    router.subscribe(added);
+
+    final Map<String,String> after = ownersOf(router);
+    final String addedName = Proxy.from(added).address().name();
+
+    int moved = 0;
+    for (final String key : before.keySet()) {
+      if (!before.get(key).equals(after.get(key))) {
+        assertEquals(addedName, after.get(key));
+        ++moved;
+      }
+    }
+
+    // about 1/5 of the keys move to the fifth routee
+    assertTrue(moved > Keys / 10);
+    assertTrue(moved < Keys * 3 / 10);
+
+    router.unsubscribe(added);
+
+    assertEquals(before, ownersOf(router));
+  }
+
+  @Test
+  public void testThatNoRouteesDeadLettersMessages() {
+    final AccessSafely access = AccessSafely.afterCompleting(2);
+    final List<String> deadLetters = new CopyOnWriteArrayList<>();
+    access.writingWith("deadLetter", (String representation) -> deadLetters.add(representation));
+    access.readingWith("deadLetters", () -> deadLetters);
+
+    world.deadLetters().registerListener(
+            world.actorFor(DeadLettersListener.class, Definition.has(NoRouteeListenerActor.class, Definition.parameters(access))));
+
+    final Keyed router = world.actorFor(Keyed.class, Definition.has(TestRouterActor.class, Definition.parameters(0)));
+
+    router.touch("entity-1");
+    router.touch("entity-2");
+
+    final List<String> dead = access.readFrom("deadLetters");
+    assertEquals(2, dead.size());
+    assertTrue(dead.contains("routingFor(entity-1)"));
+    assertTrue(dead.contains("routingFor(entity-2)"));
+
+    final Keyed added = world.actorFor(Keyed.class, TestRouteeActor.class);
+    router.subscribe(added);
+
+    assertEquals(Proxy.from(added).address().name(), router.nameOf("entity-1").await());
+  }
+
+  private Map<String,String> ownersOf(final Keyed router) {
+    final Map<String,String> owners = new HashMap<>();
+    for (int key = 0; key < Keys; ++key) {
+      final String entityKey = "entity-" + key;
+      owners.put(entityKey, router.nameOf(entityKey).await());
+    }
+    return owners;
+  }
+
+  public interface Keyed {
+    void subscribe(final Keyed routee);
+    void unsubscribe(final Keyed routee);
+    void touch(final String key);
+    Completes<String> nameOf(final String key);
+  }
+
+  public static class TestRouterActor extends ConsistentHashingRouter<Keyed> implements Keyed {
+    public TestRouterActor(final int routees) {
+      super(new RouterSpecification<>(routees, Definition.has(TestRouteeActor.class, Definition.NoParameters), Keyed.class), key -> key);
+    }
+
+    @Override
+    public void subscribe(final Keyed routee) {
+      subscribe(Routee.of(routee));
+    }
+
+    @Override
+    public void unsubscribe(final Keyed routee) {
+      unsubscribe(Routee.of(routee));
+    }
+
+    @Override
+    public void touch(final String key) {
+      dispatchCommand(Keyed::touch, key);
+    }
+
+    @Override
+    public Completes<String> nameOf(final String key) {
+      return dispatchQuery(Keyed::nameOf, key);
+    }
+  }
+
+  public static class TestRouteeActor extends Actor implements Keyed {
+    @Override
+    public void subscribe(final Keyed routee) { }
+
+    @Override
+    public void unsubscribe(final Keyed routee) { }
+
+    @Override
+    public void touch(final String key) { }
+
+    @Override
+    public Completes<String> nameOf(final String key) {
+      return completes().with(address().name());
+    }
+  }
+
+  public static class NoRouteeListenerActor extends Actor implements DeadLettersListener {
+    private final AccessSafely access;
+
+    public NoRouteeListenerActor(final AccessSafely access) {
+      this.access = access;
+    }
+
+    @Override
+    public void handle(final DeadLetter deadLetter) {
+      if (deadLetter.representation.startsWith("routingFor(")) {
+        access.writeUsing("deadLetter", deadLetter.representation);
+      }
+    }
+  }
+}
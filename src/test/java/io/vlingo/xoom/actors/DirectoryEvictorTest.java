@@ -0,0 +1,59 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class DirectoryEvictorTest {
+
+  @Test
+  public void testThatEvictionIsProportionalToPressure() {
+    assertEquals(0, DirectoryEvictor.evictionTarget(1_000, 0.49f, 0.5f, 0.25f));
+    assertEquals(1, DirectoryEvictor.evictionTarget(1_000, 0.5f, 0.5f, 0.25f));
+    assertEquals(125, DirectoryEvictor.evictionTarget(1_000, 0.75f, 0.5f, 0.25f));
+    assertEquals(250, DirectoryEvictor.evictionTarget(1_000, 1.0f, 0.5f, 0.25f));
+    assertEquals(0, DirectoryEvictor.evictionTarget(0, 1.0f, 0.5f, 0.25f));
+  }
+
+  @Test
+  public void testThatHeapPressureMeasuresUsedMemory() {
+    final float usedRatio = HeapPressure.measure(0.8f).usedRatio();
+
+    assertTrue(usedRatio > 0.0f);
+    assertTrue(usedRatio <= 1.0f);
+  }
+
+  @Test
+  public void testThatHeapPressureRestoresThresholdsWhenClosed() {
+    final Map<String, Long> previous = collectionUsageThresholds();
+
+    final HeapPressure heapPressure = HeapPressure.listen(0.99f, () -> { });
+
+    heapPressure.close();
+
+    assertEquals(previous, collectionUsageThresholds());
+  }
+
+  private Map<String, Long> collectionUsageThresholds() {
+    final Map<String, Long> thresholds = new HashMap<>();
+    for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.isCollectionUsageThresholdSupported()) {
+        thresholds.put(pool.getName(), pool.getCollectionUsageThreshold());
+      }
+    }
+    return thresholds;
+  }
+}
@@ -7,10 +7,25 @@
 
 package io.vlingo.xoom.actors;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
@@ -61,6 +76,263 @@ public class DirectoryTest extends ActorsTest {
     directory.register(address, new TestInterfaceActor());
   }
 
+  @Test
+  public void testDirectoryComputeIfAbsent() {
+    final Directory directory = new Directory(new BasicAddress(0, ""));
+
+    final Address address = world.addressFactory().uniqueWith("test-actor");
+
+    final Actor actor = new TestInterfaceActor();
+
+    assertSame(actor, directory.computeIfAbsent(address, (absent) -> actor));
+
+    assertTrue(directory.isRegistered(address));
+
+    assertSame(actor, directory.computeIfAbsent(address, (absent) -> { throw new IllegalStateException("Must not create."); }));
+  }
+
+  @Test
+  public void testDirectoryComputeIfAbsentWaitsForCreation() throws Exception {
+    final Directory directory = new Directory(new BasicAddress(0, ""));
+
+    final Address address = world.addressFactory().uniqueWith("test-actor");
+
+    final Actor actor = new TestInterfaceActor();
+    final AtomicInteger creations = new AtomicInteger(0);
+    final CountDownLatch creating = new CountDownLatch(1);
+    final CountDownLatch created = new CountDownLatch(1);
+
+    final CompletableFuture<Actor> first = CompletableFuture.supplyAsync(() ->
+      directory.computeIfAbsent(address, (absent) -> {
+        creations.incrementAndGet();
+        creating.countDown();
+        try {
+          created.await();
+        } catch (InterruptedException e) {
+          // ignore
+        }
+        return actor;
+      }));
+
+    creating.await();
+
+    final CompletableFuture<Actor> second = CompletableFuture.supplyAsync(() ->
+      directory.computeIfAbsent(address, (absent) -> {
+        creations.incrementAndGet();
+        return new TestInterfaceActor();
+      }));
+
+    created.countDown();
+
+    assertSame(actor, first.get(5, TimeUnit.SECONDS));
+    assertSame(actor, second.get(5, TimeUnit.SECONDS));
+    assertEquals(1, creations.get());
+  }
+
+  @Test
+  public void testDirectoryComputeIfAbsentAfterFailedCreation() {
+    final Directory directory = new Directory(new BasicAddress(0, ""));
+
+    final Address address = world.addressFactory().uniqueWith("test-actor");
+
+    try {
+      directory.computeIfAbsent(address, (absent) -> { throw new IllegalStateException("Cannot create."); });
+      fail("Must not create.");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+
+    assertFalse(directory.isRegistered(address));
+
+    final Actor actor = new TestInterfaceActor();
+
+    assertSame(actor, directory.computeIfAbsent(address, (absent) -> actor));
+  }
+
+  @Test
+  public void testDirectoryComputeIfAbsentRacedByRegister() {
+    final Directory directory = new Directory(new BasicAddress(0, ""));
+
+    final Address address = world.addressFactory().uniqueWith("test-actor");
+
+    final Actor registered = new TestInterfaceActor();
+    final Actor created = new TestInterfaceActor();
+
+    assertSame(registered, directory.computeIfAbsent(address, (absent) -> {
+      directory.register(absent, registered);
+      return created;
+    }));
+
+    assertSame(registered, directory.actorOf(address));
+    assertTrue(created.isStopped());
+    assertFalse(registered.isStopped());
+  }
+
+  @Test
+  public void testGrowableDirectory() {
+    final Directory directory = new Directory(new BasicAddress(0, ""), DirectoryConfiguration.define().buckets(2).initialCapacity(4).growable(true));
+
+    final Actor actor = new TestInterfaceActor();
+
+    final List<Address> addresses = new ArrayList<>();
+    for (int idx = 0; idx < 1_000; ++idx) {
+      final Address address = world.addressFactory().uniqueWith("test-actor" + idx);
+      directory.register(address, actor);
+      addresses.add(address);
+    }
+
+    assertEquals(1_000, directory.count());
+    assertEquals(1_000, directory.addresses().size());
+
+    for (final Address address : addresses) {
+      assertSame(actor, directory.actorOf(address));
+    }
+
+    for (int idx = 0; idx < addresses.size(); idx += 2) {
+      assertTrue(directory.remove(addresses.get(idx), actor));
+    }
+
+    assertEquals(500, directory.count());
+
+    for (int idx = 0; idx < addresses.size(); ++idx) {
+      assertEquals(idx % 2 != 0, directory.isRegistered(addresses.get(idx)));
+    }
+  }
+
+  @Test
+  public void testDirectoryCursorAndStreams() {
+    final Directory directory = new Directory(BasicAddress.None, DirectoryConfiguration.define().buckets(8));
+
+    final Map<Actor, Address> addresses = new HashMap<>();
+    final Set<Actor> even = new HashSet<>();
+    for (int idx = 0; idx < 1_000; ++idx) {
+      final Actor actor = new TestInterfaceActor();
+      final Address address = world.addressFactory().uniqueWith("test-actor" + idx);
+      directory.register(address, actor);
+      addresses.put(actor, address);
+      if (idx % 2 == 0) {
+        even.add(actor);
+      }
+    }
+
+    final Directory.Cursor cursor = directory.cursor(even::contains);
+    final Set<Actor> found = new HashSet<>();
+    while (cursor.hasNext()) {
+      final List<Actor> batch = cursor.next(64);
+      assertTrue(batch.size() <= 64);
+      found.addAll(batch);
+    }
+
+    assertEquals(even, found);
+    assertEquals(1_000, directory.actors(false).count());
+    assertEquals(1_000, directory.actors(true).distinct().count());
+    assertEquals(500, directory.actors(true).filter(even::contains).count());
+
+    // weakly consistent: removal while iterating does not fail
+    directory.actors(false).forEach(actor -> directory.remove(addresses.get(actor), actor));
+
+    assertEquals(0, directory.count());
+  }
+
+  @Test
+  public void testNameIndexedDirectory() {
+    for (final boolean nameIndexed : new boolean[] { true, false }) {
+      final Directory directory = new Directory(BasicAddress.None, DirectoryConfiguration.define().nameIndexed(nameIndexed));
+
+      assertEquals(nameIndexed, directory.isNameIndexed());
+
+      final Actor single = new TestInterfaceActor();
+      final Actor first = new TestInterfaceActor();
+      final Actor second = new TestInterfaceActor();
+
+      final Address singleAddress = world.addressFactory().uniqueWith("single");
+      final Address firstAddress = world.addressFactory().uniqueWith("shared");
+      final Address secondAddress = world.addressFactory().uniqueWith("shared");
+
+      directory.register(singleAddress, single);
+      directory.register(firstAddress, first);
+      directory.register(secondAddress, second);
+      directory.register(world.addressFactory().unique(), new TestInterfaceActor());
+
+      assertEquals(Arrays.asList(single), directory.actorsNamed("single"));
+      assertEquals(2, directory.actorsNamed("shared").size());
+      assertTrue(directory.actorsNamed("shared").containsAll(Arrays.asList(first, second)));
+      assertTrue(directory.actorsNamed("missing").isEmpty());
+
+      directory.remove(firstAddress);
+
+      assertEquals(Arrays.asList(second), directory.actorsNamed("shared"));
+
+      assertTrue(directory.remove(secondAddress, second));
+      directory.remove(singleAddress);
+
+      assertTrue(directory.actorsNamed("shared").isEmpty());
+      assertTrue(directory.actorsNamed("single").isEmpty());
+    }
+  }
+
+  @Test
+  public void testPrimitiveKeyedDirectory() {
+    final Directory directory = new Directory(BasicAddress.None, DirectoryConfiguration.define().buckets(4).initialCapacity(4).primitiveKeyed(true));
+
+    final Actor actor = new TestInterfaceActor();
+
+    final List<Address> addresses = new ArrayList<>();
+    for (int idx = 0; idx < 1_000; ++idx) {
+      final Address address = world.addressFactory().uniqueWith("test-actor" + idx);
+      directory.register(address, actor);
+      addresses.add(address);
+    }
+
+    assertEquals(1_000, directory.count());
+
+    for (final Address address : addresses) {
+      assertSame(actor, directory.actorOf(address));
+    }
+
+    assertSame(actor, directory.actorOf(new BasicAddress(addresses.get(0).id())));
+
+    for (int idx = 0; idx < addresses.size(); idx += 2) {
+      assertTrue(directory.remove(addresses.get(idx), actor));
+    }
+
+    assertEquals(500, directory.count());
+
+    for (int idx = 0; idx < addresses.size(); ++idx) {
+      assertEquals(idx % 2 != 0, directory.isRegistered(addresses.get(idx)));
+    }
+  }
+
+  @Test
+  public void testEvictionCandidatesAreLeastRecentlyActive() {
+    final Directory directory = world.stage().directory();
+    directory.trackEvictions();
+
+    final Definition definition = Definition.has(TestInterfaceActor.class, TestInterfaceActor::new, true);
+
+    final List<Actor> stale = new ArrayList<>();
+    for (int idx = 0; idx < 10; ++idx) {
+      final Address address = world.addressFactory().uniqueWith("evictable-actor" + idx);
+      world.stage().actorFor(TestInterface.class, definition, address);
+      final Actor actor = directory.actorOf(address);
+      if (idx % 2 == 0) {
+        actor.lifeCycle.evictable.activeOn(0);
+        stale.add(actor);
+      }
+    }
+
+    final List<Actor> firstBatch = directory.evictionCandidates(60_000, 3, 100);
+    assertEquals(3, firstBatch.size());
+    assertTrue(stale.containsAll(firstBatch));
+
+    final List<Actor> secondBatch = directory.evictionCandidates(60_000, 10, 100);
+    assertEquals(2, secondBatch.size());
+    assertTrue(stale.containsAll(secondBatch));
+
+    directory.retainEvictionCandidate(secondBatch.get(0));
+    assertEquals(1, directory.evictionCandidates(60_000, 10, 100).size());
+  }
+
   @Test
   public void testDirectoryFindsRegistered() {
     final Directory directory = new Directory(new BasicAddress(0, ""));
@@ -0,0 +1,112 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.testkit.AccessSafely;
+import io.vlingo.xoom.common.Completes;
+
+/**
+ * ElasticRouterTest tests a {@link Router} of an {@link ElasticRouterSpecification}.
+ */
+public class ElasticRouterTest extends ActorsTest {
+
+  @Test
+  public void testThatPoolGrowsUnderLoadAndShrinksWhenIdle() throws Exception {
+    final int burst = 100;
+    final Results results = new Results(burst);
+
+    final Worker router = world.actorFor(Worker.class, Definition.has(TestRouterActor.class, Definition.parameters(results)));
+
+    assertEquals(1, (int) router.poolSize().await());
+
+    for (int count = 0; count < burst; ++count) {
+      router.work(5);
+    }
+
+    assertEquals(burst, (int) results.access.readFrom("worked"));
+
+    final int grown = router.poolSize().await();
+    assertTrue(grown > 1);
+    assertTrue(grown <= 4);
+
+    for (int count = 0; count < 20; ++count) {
+      Thread.sleep(10);
+      router.work(0);
+    }
+
+    assertEquals(1, (int) router.poolSize().await());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testThatMaximumMustNotBeLessThanMinimum() {
+    new ElasticRouterSpecification<>(4, 2, Definition.has(TestRouteeActor.class, Definition.NoParameters), Worker.class);
+  }
+
+  public interface Worker {
+    void work(final int millis);
+    Completes<Integer> poolSize();
+  }
+
+  public static class TestRouterActor extends RoundRobinRouter<Worker> implements Worker {
+    public TestRouterActor(final Results results) {
+      super(new ElasticRouterSpecification<>(1, 4, 2, 0, 0, Definition.has(TestRouteeActor.class, Definition.parameters(results)), Worker.class));
+    }
+
+    @Override
+    public void work(final int millis) {
+      dispatchCommand(Worker::work, millis);
+    }
+
+    @Override
+    public Completes<Integer> poolSize() {
+      return completes().with(routees().size());
+    }
+  }
+
+  public static class TestRouteeActor extends Actor implements Worker {
+    private final Results results;
+
+    public TestRouteeActor(final Results results) {
+      this.results = results;
+    }
+
+    @Override
+    public void work(final int millis) {
+      try {
+        Thread.sleep(millis);
+      } catch (InterruptedException e) {
+        // ignore
+      }
+      results.access.writeUsing("worked", 1);
+    }
+
+    @Override
+    public Completes<Integer> poolSize() {
+      return completes().with(1);
+    }
+  }
+
+  public static class Results {
+    public final AccessSafely access;
+    private final AtomicInteger worked = new AtomicInteger(0);
+
+    Results(final int totalWork) {
+      this.access = AccessSafely
+              .afterCompleting(totalWork)
+              .writingWith("worked", (Integer ignored) -> worked.incrementAndGet())
+              .readingWith("worked", worked::get);
+    }
+  }
+}
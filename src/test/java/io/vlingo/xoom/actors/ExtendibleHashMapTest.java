@@ -0,0 +1,79 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ExtendibleHashMapTest {
+
+  @Test
+  public void testThatBucketsSplit() {
+    final ExtendibleHashMap<Integer, String> map = new ExtendibleHashMap<>(8, 0.75f, 1);
+
+    for (int key = 0; key < 1_000; ++key) {
+      assertNull(map.putIfAbsent(key, "" + key));
+    }
+
+    assertEquals(1_000, map.size());
+    assertTrue(map.bucketCount() >= 1_000 / 8);
+
+    for (int key = 0; key < 1_000; ++key) {
+      assertEquals("" + key, map.get(key));
+    }
+
+    final Set<Integer> keys = new HashSet<>(map.keySet());
+    assertEquals(1_000, keys.size());
+  }
+
+  @Test
+  public void testThatConcurrentWritersAreNotLost() throws Exception {
+    final int writers = 8;
+    final int each = 10_000;
+    final ExtendibleHashMap<Integer, Integer> map = new ExtendibleHashMap<>(16, 0.75f, writers);
+    final ExecutorService exec = Executors.newFixedThreadPool(writers);
+    final CountDownLatch done = new CountDownLatch(writers);
+
+    for (int writer = 0; writer < writers; ++writer) {
+      final int base = writer * each;
+      exec.execute(() -> {
+        for (int key = base; key < base + each; ++key) {
+          map.put(key, key);
+          if (key % 3 == 0) {
+            map.remove(key, key);
+          }
+        }
+        done.countDown();
+      });
+    }
+
+    assertTrue(done.await(30, TimeUnit.SECONDS));
+    exec.shutdown();
+
+    for (int key = 0; key < writers * each; ++key) {
+      if (key % 3 == 0) {
+        assertFalse(map.containsKey(key));
+      } else {
+        assertEquals(Integer.valueOf(key), map.get(key));
+      }
+    }
+
+    assertEquals(writers * each - (writers * each + 2) / 3, map.size());
+  }
+}
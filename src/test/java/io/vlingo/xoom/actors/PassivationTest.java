@@ -0,0 +1,128 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.VirtualActorTest.Activations;
+import io.vlingo.xoom.actors.VirtualActorTest.Counter;
+import io.vlingo.xoom.common.Completes;
+
+public class PassivationTest {
+  private InMemoryPassivationStore store;
+  private World world;
+
+  @Test
+  public void testThatPassivatedStateIsRestoredOnNextMessage() {
+    final Activations activations = new Activations(2);
+    final Address address = world.addressFactory().unique();
+    final Counter counter = world.stage().virtualActorFor(Counter.class, Definition.has(SnapshotCounterActor.class, Definition.parameters(activations)), address);
+
+    assertEquals(1, (int) counter.increment().await());
+    assertEquals(2, (int) counter.increment().await());
+
+    assertTrue(world.stage().passivate(address));
+
+    awaitDeregistered(address);
+
+    assertEquals(1, store.size());
+    assertEquals(1, world.stage().directory().tombstoneCount());
+
+    assertEquals(3, (int) counter.increment().await());
+    assertEquals(2, activations.count());
+
+    assertEquals(0, store.size());
+    assertEquals(0, world.stage().directory().tombstoneCount());
+  }
+
+  @Test
+  public void testThatPassivatedActorIsReactivatedByActorOf() {
+    final Activations activations = new Activations(2);
+    final Address address = world.addressFactory().unique();
+    final Counter counter = world.stage().actorFor(Counter.class, Definition.has(SnapshotCounterActor.class, Definition.parameters(activations)), address);
+
+    assertEquals(1, (int) counter.increment().await());
+
+    assertTrue(world.stage().passivate(address));
+
+    awaitDeregistered(address);
+
+    final Counter reactivated = world.stage().actorOf(Counter.class, address).await();
+
+    assertEquals(2, (int) reactivated.increment().await());
+    assertEquals(2, activations.count());
+  }
+
+  @Test
+  public void testThatFilePassivationStoreRoundTrips() throws Exception {
+    final Path root = Files.createTempDirectory("passivation");
+    final FilePassivationStore fileStore = new FilePassivationStore(root);
+    final Address address = world.addressFactory().unique();
+
+    assertNull(fileStore.restore(address));
+
+    fileStore.store(address, 42);
+    fileStore.store(address, 43);
+
+    assertEquals(43, fileStore.restore(address));
+    assertNull(fileStore.restore(address));
+  }
+
+  @Before
+  public void setUp() {
+    store = new InMemoryPassivationStore();
+    world = World.start("passivation-test", Configuration.define().with(DirectoryEvictionConfiguration.define().passivateTo(store)));
+  }
+
+  @After
+  public void tearDown() {
+    world.terminate();
+  }
+
+  private void awaitDeregistered(final Address address) {
+    for (int retries = 0; world.stage().directory().isRegistered(address) && retries < 100; ++retries) {
+      try { Thread.sleep(10L); } catch (Exception e) { }
+    }
+
+    assertFalse(world.stage().directory().isRegistered(address));
+  }
+
+  public static class SnapshotCounterActor extends Actor implements Counter {
+    private int count;
+
+    public SnapshotCounterActor(final Activations activations) {
+      activations.activated();
+    }
+
+    @Override
+    public Completes<Integer> increment() {
+      return completes().with(++count);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S> S stateSnapshot() {
+      return (S) Integer.valueOf(count);
+    }
+
+    @Override
+    public <S> void stateSnapshot(final S stateSnapshot) {
+      count = (Integer) stateSnapshot;
+    }
+  }
+}
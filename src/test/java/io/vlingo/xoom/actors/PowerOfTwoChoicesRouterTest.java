@@ -0,0 +1,127 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.testkit.AccessSafely;
+
+/**
+ * PowerOfTwoChoicesRouterTest tests {@link PowerOfTwoChoicesRouter}.
+ */
+public class PowerOfTwoChoicesRouterTest extends ActorsTest {
+
+  @Test
+  public void testThatShallowerRouteeIsChosen() {
+    final int messagesToSend = 200;
+    final Results results = new Results(2, messagesToSend);
+
+    final Worker router = world.actorFor(Worker.class, Definition.has(TestRouterActor.class, Definition.parameters(2, results)));
+
+    for (int count = 0; count < messagesToSend; ++count) {
+      router.work(count);
+      // paced, such that the slow routee builds a backlog while the fast one drains
+      pause(1);
+    }
+
+    final int slow = results.access.readFrom("counts", 0);
+    final int fast = results.access.readFrom("counts", 1);
+
+    assertEquals(messagesToSend, slow + fast);
+    assertTrue(fast > slow);
+  }
+
+  @Test
+  public void testThatAllRouteesAreReached() {
+    final int routees = 8;
+    final int messagesToSend = 800;
+    final Results results = new Results(routees, messagesToSend);
+
+    final Worker router = world.actorFor(Worker.class, Definition.has(TestRouterActor.class, Definition.parameters(routees, results)));
+
+    for (int count = 0; count < messagesToSend; ++count) {
+      router.work(count);
+    }
+
+    int total = 0;
+    for (int index = 0; index < routees; ++index) {
+      final int count = results.access.readFrom("counts", index);
+      assertTrue(count > 0);
+      total += count;
+    }
+
+    assertEquals(messagesToSend, total);
+  }
+
+  private void pause(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      // ignore
+    }
+  }
+
+  public interface Worker {
+    void work(final int item);
+  }
+
+  public static class TestRouterActor extends PowerOfTwoChoicesRouter<Worker> implements Worker {
+    public TestRouterActor(final int routees, final Results results) {
+      // each routee has a thread of its own, such that the slow one does not hold the fast one
+      super(new RouterSpecification<>(routees, Definition.has(TestRouteeActor.class, Definition.parameters(results), "arrayQueueMailbox", "routee"), Worker.class));
+    }
+
+    @Override
+    public void work(final int item) {
+      dispatchCommand(Worker::work, item);
+    }
+  }
+
+  public static class TestRouteeActor extends Actor implements Worker {
+    private final int index;
+    private final Results results;
+
+    public TestRouteeActor(final Results results) {
+      this.results = results;
+      this.index = results.nextIndex.getAndIncrement();
+    }
+
+    @Override
+    public void work(final int item) {
+      if (index == 0) {
+        // the first routee is slow
+        try {
+          Thread.sleep(5);
+        } catch (InterruptedException e) {
+          // ignore
+        }
+      }
+      results.access.writeUsing("counts", index);
+    }
+  }
+
+  public static class Results {
+    public final AccessSafely access;
+    private final AtomicIntegerArray counts;
+    private final AtomicInteger nextIndex = new AtomicInteger(0);
+
+    Results(final int routees, final int totalMessages) {
+      this.counts = new AtomicIntegerArray(routees);
+      this.access = AccessSafely
+              .afterCompleting(totalMessages)
+              .writingWith("counts", (Integer index) -> counts.incrementAndGet(index))
+              .readingWith("counts", (Integer index) -> counts.get(index));
+    }
+  }
+}
@@ -123,6 +123,26 @@ public class ProxyGeneratorTest {
       assertTrue("Proxy class has invalid generic signature",
           result.source.contains("public class ProtocolWithGenerics__Proxy<A extends java.lang.RuntimeException, B extends java.util.Queue<java.io.IOException>> extends ActorProxyBase<io.vlingo.xoom.actors.ProtocolWithGenerics> implements io.vlingo.xoom.actors.ProtocolWithGenerics<A, B>, Proxy"));
     }
+
+    @Test
+    public void testThatRoutingProxyCallsSelectedRoutee() {
+        ProxyGenerator.Result result = proxyGenerator.generateRoutingFor(ProtocolWithGenerics.class.getCanonicalName());
+
+        assertTrue("Routing proxy class has invalid generic signature",
+            result.source.contains("public class ProtocolWithGenerics__RoutingProxy<A extends java.lang.RuntimeException, B extends java.util.Queue<java.io.IOException>> implements ProtocolWithGenerics<A, B> {"));
+        assertTrue("Routing proxy does not call the selected routee",
+            result.source.contains("return ((ProtocolWithGenerics<A, B>) delegate.routeeFor(null)).someMethod();"));
+    }
+
+    @Test
+    public void testThatVirtualProxyImplementsProxy() {
+        ProxyGenerator.Result result = proxyGenerator.generateVirtualFor(ProtocolWithGenerics.class.getCanonicalName());
+
+        assertTrue("Virtual proxy class has invalid generic signature",
+            result.source.contains("public class ProtocolWithGenerics__VirtualProxy<A extends java.lang.RuntimeException, B extends java.util.Queue<java.io.IOException>> implements ProtocolWithGenerics<A, B>, Proxy {"));
+        assertTrue("Virtual proxy does not call the activated actor",
+            result.source.contains("return ((ProtocolWithGenerics<A, B>) delegate.activated()).otherMethod();"));
+    }
 }
 
 interface ProtocolWithGenericMethods {
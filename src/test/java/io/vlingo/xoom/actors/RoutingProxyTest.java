@@ -0,0 +1,144 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.testkit.AccessSafely;
+import io.vlingo.xoom.common.Completes;
+
+public class RoutingProxyTest extends ActorsTest {
+
+  @Test
+  public void testRoundRobinSpreadsEvenly() {
+    final int routees = 3;
+    final int messagesToSend = 300;
+    final Results results = new Results(messagesToSend);
+
+    final RoutingProxy<Worker> routing =
+            world.stage().routingProxyFor(
+                    new RouterSpecification<>(routees, Definition.has(WorkerActor.class, Definition.parameters(results)), Worker.class),
+                    RouteeSelector.roundRobin());
+
+    assertEquals(routees, routing.routees().size());
+
+    for (int count = 0; count < messagesToSend; ++count) {
+      routing.proxy().work(count);
+    }
+
+    final Map<Address,Integer> counts = results.access.readFrom("counts");
+
+    assertEquals(routees, counts.size());
+    for (final int count : counts.values()) {
+      assertEquals(messagesToSend / routees, count);
+    }
+  }
+
+  @Test
+  public void testHashingKeepsKeysTogether() {
+    final Results results = new Results(0);
+
+    final RoutingProxy<Worker> routing =
+            world.stage().routingProxyFor(
+                    new RouterSpecification<>(4, Definition.has(WorkerActor.class, Definition.parameters(results)), Worker.class),
+                    RouteeSelector.hashing());
+
+    for (int key = 0; key < 20; ++key) {
+      final String first = routing.proxy().nameOf(key).await();
+      for (int again = 0; again < 5; ++again) {
+        assertEquals(first, routing.proxy().nameOf(key).await());
+      }
+    }
+  }
+
+  @Test
+  public void testRandomReachesRoutees() {
+    final int messagesToSend = 1_000;
+    final Results results = new Results(messagesToSend);
+
+    final RoutingProxy<Worker> routing =
+            world.stage().routingProxyFor(
+                    new RouterSpecification<>(2, Definition.has(WorkerActor.class, Definition.parameters(results)), Worker.class),
+                    RouteeSelector.random());
+
+    for (int count = 0; count < messagesToSend; ++count) {
+      routing.proxy().work(count);
+    }
+
+    final Map<Address,Integer> counts = results.access.readFrom("counts");
+
+    assertEquals(2, counts.size());
+  }
+
+  @Test
+  public void testSubscribeAndUnsubscribe() {
+    final Results results = new Results(0);
+
+    final Worker first = world.actorFor(Worker.class, WorkerActor.class, results);
+    final Worker second = world.actorFor(Worker.class, WorkerActor.class, results);
+
+    final RoutingProxy<Worker> routing =
+            world.stage().routingProxyFor(Worker.class, java.util.Collections.singletonList(first), RouteeSelector.roundRobin());
+
+    routing.subscribe(second);
+    routing.subscribe(second);
+
+    assertEquals(2, routing.routees().size());
+
+    routing.unsubscribe(first);
+
+    assertEquals(1, routing.routees().size());
+    assertTrue(routing.routees().contains(second));
+
+    final String name = routing.proxy().nameOf(1).await();
+    for (int count = 0; count < 10; ++count) {
+      assertEquals(name, routing.proxy().nameOf(count).await());
+    }
+  }
+
+  public interface Worker {
+    void work(final int item);
+    Completes<String> nameOf(final int item);
+  }
+
+  public static class WorkerActor extends Actor implements Worker {
+    private final Results results;
+
+    public WorkerActor(final Results results) {
+      this.results = results;
+    }
+
+    @Override
+    public void work(final int item) {
+      results.access.writeUsing("counts", address());
+    }
+
+    @Override
+    public Completes<String> nameOf(final int item) {
+      return completes().with(address().name());
+    }
+  }
+
+  public static class Results {
+    public final AccessSafely access;
+    private final Map<Address,Integer> counts = new HashMap<>();
+
+    Results(final int totalMessages) {
+      this.access = AccessSafely
+              .afterCompleting(totalMessages)
+              .writingWith("counts", (Address address) -> counts.merge(address, 1, Integer::sum))
+              .readingWith("counts", () -> new HashMap<>(counts));
+    }
+  }
+}
@@ -0,0 +1,147 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.vlingo.xoom.common.Completes;
+
+/**
+ * ScatterGatherRouterTest tests {@link ScatterGatherRouter}.
+ */
+public class ScatterGatherRouterTest extends ActorsTest {
+
+  @Test
+  public void testThatFirstReplyIsGathered() {
+    final Replica router = routerOf(3, 0);
+
+    assertEquals(0, (int) router.answer("first").await());
+  }
+
+  @Test
+  public void testThatQuorumIsGathered() {
+    final Replica router = routerOf(3, 0);
+
+    // the two fastest of three replies are those of the first two routees
+    assertEquals(1, (int) router.answer("quorum").await());
+  }
+
+  @Test
+  public void testThatAllRepliesAreGathered() {
+    final Replica router = routerOf(3, 0);
+
+    assertEquals(0 + 1 + 2, (int) router.answer("all").await());
+  }
+
+  @Test
+  public void testThatTimeoutIsGathered() {
+    final Replica router = routerOf(3, 0);
+
+    assertEquals(-1, (int) router.answer("within").await());
+
+    // the straggler's reply does not complete a following query
+    assertEquals(0, (int) router.answer("first").await());
+  }
+
+  @Test
+  public void testThatScatterToNoRouteesCompletesTimedOut() {
+    final Replica router = routerOf(0, 0);
+
+    assertEquals(-1, (int) router.answer("within").await());
+    assertEquals(-1, (int) router.answer("within").await());
+  }
+
+  @Test
+  public void testThatFailedReplyCompletesAllWithoutTimeout() {
+    final Replica router = routerOf(3, 0);
+
+    // the second routee fails, so all replies can never be gathered
+    assertNull(router.answer("failing-all").await());
+  }
+
+  @Test
+  public void testThatFailedReplyIsPassedOverByFirst() {
+    final Replica router = routerOf(3, 0);
+
+    // the first routee fails, so the first reply is that of the second
+    assertEquals(1, (int) router.answer("failing-first").await());
+  }
+
+  @Test
+  public void testThatFanOutScattersToSubset() {
+    final Replica router = routerOf(4, 2);
+
+    assertEquals(2, (int) router.answer("count").await());
+    assertEquals(2, (int) router.answer("count").await());
+  }
+
+  private Replica routerOf(final int routees, final int fanOut) {
+    return world.actorFor(Replica.class, Definition.has(TestRouterActor.class, Definition.parameters(routees, fanOut)));
+  }
+
+  public interface Replica {
+    Completes<Integer> answer(final String gathering);
+  }
+
+  public static class TestRouterActor extends ScatterGatherRouter<Replica> implements Replica {
+    public TestRouterActor(final int routees, final int fanOut) {
+      super(new RouterSpecification<>(routees, Definition.has(TestRouteeActor.class, Definition.parameters(new AtomicInteger(0))), Replica.class), fanOut);
+    }
+
+    @Override
+    public Completes<Integer> answer(final String gathering) {
+      switch (gathering) {
+      case "first":
+        return scatterQuery(Replica::answer, gathering, Gathering.first());
+      case "quorum":
+        return scatterQuery(Replica::answer, gathering, Gathering.quorum(2, Collections::max));
+      case "all":
+        return scatterQuery(Replica::answer, gathering, Gathering.all(replies -> replies.stream().mapToInt(Integer::intValue).sum()));
+      case "within":
+        return scatterQuery(Replica::answer, gathering, Gathering.<Integer>all(replies -> replies.size()).within(300, -1));
+      case "failing-all":
+        return scatterQuery(Replica::answer, gathering, Gathering.all(replies -> replies.stream().mapToInt(Integer::intValue).sum()));
+      case "failing-first":
+        return scatterQuery(Replica::answer, gathering, Gathering.first());
+      case "count":
+        return scatterQuery(Replica::answer, gathering, Gathering.all(replies -> replies.size()));
+      default:
+        throw new IllegalArgumentException(gathering);
+      }
+    }
+  }
+
+  public static class TestRouteeActor extends Actor implements Replica {
+    private final int index;
+
+    public TestRouteeActor(final AtomicInteger nextIndex) {
+      this.index = nextIndex.getAndIncrement();
+    }
+
+    @Override
+    public Completes<Integer> answer(final String gathering) {
+      // each routee replies later than the one before it
+      try {
+        Thread.sleep(index * (gathering.equals("within") ? 400 : 100));
+      } catch (InterruptedException e) {
+        // ignore
+      }
+      if (index == (gathering.equals("failing-all") ? 1 : 0) && gathering.startsWith("failing")) {
+        completes().with(new IllegalStateException("Failed: " + index));
+        return completes();
+      }
+      return completes().with(index);
+    }
+  }
+}
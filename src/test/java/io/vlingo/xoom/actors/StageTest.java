@@ -10,12 +10,15 @@ package io.vlingo.xoom.actors;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
@@ -188,6 +191,76 @@ public class StageTest extends ActorsTest {
     assertEquals(2, scanResult.getNotFoundCount());
   }
 
+  @Test
+  public void testDirectoryLookupNow() throws Exception {
+    final Address address1 = world.addressFactory().uniqueWith("test-actor1");
+    final Address address2 = world.addressFactory().uniqueWith("test-actor2");
+    final Address address3 = world.addressFactory().uniqueWith("test-actor3");
+
+    world.stage().directory().register(address1, new TestInterfaceActor());
+    world.stage().directory().register(address2, new TestInterfaceActor());
+
+    assertNotNull(world.stage().actorOfNow(NoProtocol.class, address1));
+    assertTrue(world.stage().maybeActorOfNow(NoProtocol.class, address2).isPresent());
+    assertNull(world.stage().actorOfNow(NoProtocol.class, address3));
+    assertFalse(world.stage().maybeActorOfNow(NoProtocol.class, address3).isPresent());
+
+    final List<Future<NoProtocol>> futures = IntStream.range(0, 256)
+        .mapToObj(index -> exec.submit(() -> world.stage().actorOfNow(NoProtocol.class, address1)))
+        .collect(Collectors.toList());
+
+    final NoProtocol expected = world.stage().actorOfNow(NoProtocol.class, address1);
+    for (final Future<NoProtocol> future : futures) {
+      assertSame(expected, future.get());
+    }
+  }
+
+  @Test
+  public void testActorNamed() {
+    final World indexed = World.start("name-indexed", Configuration.define().with(DirectoryConfiguration.define().nameIndexed(true)));
+
+    final Definition definition = Definition.has(TestInterfaceActor.class, TestInterfaceActor::new);
+    indexed.stage().actorFor(NoProtocol.class, definition, indexed.addressFactory().uniqueWith("well-known"));
+    indexed.stage().actorFor(NoProtocol.class, definition, indexed.addressFactory().uniqueWith("many"));
+    indexed.stage().actorFor(NoProtocol.class, definition, indexed.addressFactory().uniqueWith("many"));
+
+    assertNotNull(indexed.stage().actorNamed(NoProtocol.class, "well-known"));
+    assertEquals(2, indexed.stage().actorsNamed(NoProtocol.class, "many").size());
+    assertNull(indexed.stage().actorNamed(NoProtocol.class, "unknown"));
+
+    indexed.terminate();
+  }
+
+  @Test
+  public void testDirectoryScanWithScannerPool() {
+    final World pooled = World.start("scanner-pool", Configuration.define().with(DirectoryConfiguration.define().scanners(4)));
+
+    final int total = 20;
+    final List<Address> addresses = new ArrayList<>(total);
+    for (int idx = 0; idx < total; ++idx) {
+      final Address address = pooled.addressFactory().uniqueWith("test-actor" + idx);
+      if (idx % 2 == 0) {
+        pooled.stage().directory().register(address, new TestInterfaceActor());
+      }
+      addresses.add(address);
+    }
+
+    final ScanResult scanResult = new ScanResult(total);
+
+    for (final Address address : addresses) {
+      pooled.stage().maybeActorOf(NoProtocol.class, address)
+        .andFinallyConsume(maybe -> {
+          if (maybe.isPresent()) scanResult.found();
+          else scanResult.notFound();
+        });
+    }
+
+    assertEquals(total / 2, scanResult.getFoundCount());
+    assertEquals(total / 2, scanResult.getNotFoundCount());
+
+    pooled.terminate();
+  }
+
   @Test
   public void testThatProtocolIsInterface() {
     world.stage().actorFor(NoProtocol.class, ParentInterfaceActor.class);
@@ -362,6 +435,148 @@ public class StageTest extends ActorsTest {
     Assert.assertEquals(value, valueHolder.get());
   }
 
+  @Test
+  public void testActorsForCount() {
+    final int existing = world.stage().count();
+
+    final AccessSafely access = AccessSafely.afterCompleting(100);
+    final AtomicInteger valueHolder = new AtomicInteger(0);
+    access.writingWith("value", (Integer value) -> valueHolder.incrementAndGet());
+    access.readingWith("value", () -> valueHolder.get());
+
+    final List<RingDing> all = world.stage().actorsFor(RingDing.class, Definition.has(RingDingActor.class, Definition.parameters(access)), 100);
+
+    assertEquals(100, all.size());
+    assertEquals(existing + 100, world.stage().count());
+
+    all.forEach(RingDing::ringDing);
+
+    final int value = access.readFrom("value");
+
+    assertEquals(100, value);
+  }
+
+  @Test
+  public void testActorsForAddressesInParallel() {
+    final List<Address> addresses = IntStream.range(0, 1000)
+        .mapToObj((ignored) -> world.addressFactory().unique())
+        .collect(Collectors.toList());
+
+    final Definition definition = Definition.has(ParentInterfaceActor.class, ParentInterfaceActor::new);
+
+    final List<NoProtocol> all = world.stage().actorsFor(NoProtocol.class, definition, addresses, true);
+
+    assertEquals(addresses.size(), all.size());
+
+    for (final Address address : addresses) {
+      assertTrue(world.stage().directory().isRegistered(address));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testActorsForAlreadyRegistered() {
+    final Address address = world.addressFactory().unique();
+    final Definition definition = Definition.has(ParentInterfaceActor.class, ParentInterfaceActor::new);
+
+    world.stage().actorFor(NoProtocol.class, definition, address);
+
+    world.stage().actorsFor(NoProtocol.class, definition, Arrays.asList(world.addressFactory().unique(), address));
+  }
+
+  @Test
+  public void testActorsForRejectsDuplicateAddresses() {
+    final Address duplicate = world.addressFactory().unique();
+    final Address other = world.addressFactory().unique();
+    final AtomicInteger instantiations = new AtomicInteger(0);
+    final Definition definition = Definition.has(CountingActor.class, () -> new CountingActor(instantiations));
+
+    try {
+      world.stage().actorsFor(NoProtocol.class, definition, Arrays.asList(duplicate, other, duplicate));
+      Assert.fail("Duplicate addresses must be rejected.");
+    } catch (Directory.ActorAddressAlreadyRegistered e) {
+      // expected
+    }
+
+    assertEquals(0, instantiations.get());
+    assertFalse(world.stage().directory().isRegistered(duplicate));
+    assertFalse(world.stage().directory().isRegistered(other));
+  }
+
+  @Test
+  public void testActorsForAbandonsCreatedActorsWhenConstructorFails() {
+    final List<Address> addresses = IntStream.range(0, 200)
+        .mapToObj((ignored) -> world.addressFactory().unique())
+        .collect(Collectors.toList());
+    final ConcurrentLinkedQueue<Actor> created = new ConcurrentLinkedQueue<>();
+    final Definition definition = Definition.has(FailingActor.class, Definition.parameters(created, new AtomicInteger(150)));
+
+    try {
+      world.stage().actorsFor(NoProtocol.class, definition, addresses, true);
+      Assert.fail("The failing constructor must fail the creation.");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+
+    assertFalse(created.isEmpty());
+    for (final Actor actor : created) {
+      assertTrue(actor.isStopped());
+    }
+    for (final Address address : addresses) {
+      assertFalse(world.stage().directory().isRegistered(address));
+    }
+  }
+
+  @Test
+  public void testActorsForAbandonsCreatedActorsWhenRegistrationFails() {
+    final List<Address> addresses = IntStream.range(0, 10)
+        .mapToObj((ignored) -> world.addressFactory().unique())
+        .collect(Collectors.toList());
+    final Address intruded = addresses.get(5);
+    final Actor intruder = world.stage().rawLookupOrStart(Definition.has(TestInterfaceActor.class, TestInterfaceActor::new), world.addressFactory().unique());
+    final IntrudingStage stage = new IntrudingStage(world, intruded, intruder);
+    final ConcurrentLinkedQueue<Actor> created = new ConcurrentLinkedQueue<>();
+    final Definition definition = Definition.has(FailingActor.class, Definition.parameters(created, new AtomicInteger(-1)));
+
+    try {
+      stage.actorsFor(NoProtocol.class, definition, addresses);
+      Assert.fail("The intruded address must fail the registration.");
+    } catch (Directory.ActorAddressAlreadyRegistered e) {
+      // expected
+    }
+
+    assertEquals(addresses.size(), created.size());
+    for (final Actor actor : created) {
+      assertTrue(actor.isStopped());
+    }
+    for (final Address address : addresses) {
+      if (address.equals(intruded)) {
+        assertSame(intruder, stage.directory().actorOf(address));
+      } else {
+        assertFalse(stage.directory().isRegistered(address));
+      }
+    }
+  }
+
+  @Test
+  public void testMultiThreadLookupOrStartSameAddressCreatesOnce() throws Exception {
+    final int size = 256;
+    final Address address = world.addressFactory().unique();
+    final AtomicInteger instantiations = new AtomicInteger(0);
+    final Definition definition = Definition.has(CountingActor.class, () -> new CountingActor(instantiations));
+
+    final List<Future<Actor>> futures = IntStream.range(0, size)
+        .mapToObj(index -> exec.submit(() -> world.stage().actorLookupOrStart(definition, address)))
+        .collect(Collectors.toList());
+
+    final Actor expected = futures.get(0).get();
+    for (final Future<Actor> future : futures) {
+      assertSame(expected, future.get());
+    }
+
+    assertEquals(1, instantiations.get());
+    assertSame(expected, world.stage().directory().actorOf(address));
+  }
+
   private void multithreadedLookupOrStartTest(final Function<Integer, Future<Actor>> work, final int size) {
     List<Future<Actor>> futures = IntStream.range(0, size)
         .flatMap(i -> IntStream.of(i, i))
@@ -409,6 +624,44 @@ public class StageTest extends ActorsTest {
     }
   }
 
+  public static class CountingActor extends Actor implements NoProtocol {
+    public CountingActor(final AtomicInteger instantiations) {
+      instantiations.incrementAndGet();
+    }
+  }
+
+  public static class FailingActor extends Actor implements NoProtocol {
+    public FailingActor(final ConcurrentLinkedQueue<Actor> created, final AtomicInteger failAfter) {
+      if (failAfter.decrementAndGet() == 0) {
+        throw new IllegalStateException("Failed as requested.");
+      }
+      created.add(this);
+    }
+  }
+
+  /**
+   * Registers the {@code intruder} at the {@code intruded} address when its mailbox is
+   * allocated, as another thread racing a bulk creation would.
+   */
+  private static class IntrudingStage extends Stage {
+    private final Address intruded;
+    private final Actor intruder;
+
+    IntrudingStage(final World world, final Address intruded, final Actor intruder) {
+      super(world, world.addressFactory(), "intruding-stage");
+      this.intruded = intruded;
+      this.intruder = intruder;
+    }
+
+    @Override
+    protected Mailbox allocateMailbox(final Definition definition, final Address address, final Mailbox maybeMailbox) {
+      if (address.equals(intruded)) {
+        directory().register(address, intruder);
+      }
+      return super.allocateMailbox(definition, address, maybeMailbox);
+    }
+  }
+
   public static class ParentInterfaceActor extends Actor implements NoProtocol {
     public static ThreadLocal<ParentInterfaceActor> parent = new ThreadLocal<>();
 
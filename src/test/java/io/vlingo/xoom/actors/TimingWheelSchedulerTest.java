@@ -0,0 +1,151 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.SchedulerTest.FinalCountQuery;
+import io.vlingo.xoom.actors.SchedulerTest.OnceScheduled;
+import io.vlingo.xoom.actors.testkit.AccessSafely;
+import io.vlingo.xoom.common.Cancellable;
+import io.vlingo.xoom.common.Scheduled;
+
+public class TimingWheelSchedulerTest extends ActorsTest {
+  private TimingWheelScheduler scheduler;
+  private World world;
+
+  @Test
+  public void testScheduleOnceOneHappyDelivery() {
+    final AccessSafely access = AccessSafely.afterCompleting(1);
+    final AtomicInteger counter = new AtomicInteger(0);
+    access.writingWith("counter", (Integer ignored) -> counter.incrementAndGet());
+    access.readingWith("counter", counter::get);
+
+    scheduler.scheduleOnce((scheduled, data) -> access.writeUsing("counter", 1), null, 0L, 1L);
+
+    assertEquals(1, (int) access.readFrom("counter"));
+  }
+
+  @Test
+  public void testScheduleManyHappyDelivery() {
+    final AccessSafely access = AccessSafely.afterCompleting(100);
+    final AtomicInteger counter = new AtomicInteger(0);
+    access.writingWith("counter", (Integer ignored) -> counter.incrementAndGet());
+    access.readingWith("counter", counter::get);
+
+    final Cancellable cancellable = scheduler.schedule((scheduled, data) -> access.writeUsing("counter", 1), null, 0L, 1L);
+
+    assertTrue((int) access.readFrom("counter") >= 100);
+    assertTrue(cancellable.cancel());
+    assertFalse(cancellable.cancel());
+  }
+
+  @Test
+  public void testCascadedTimersAreNotEarly() {
+    // with four slots per level, delays of up to half a second cascade over four levels
+    final TimingWheelScheduler narrowScheduler = new TimingWheelScheduler("narrow", 1, 2, Logger::basicLogger);
+
+    final int timers = 50;
+    final Map<Integer,Long> lateness = new ConcurrentHashMap<>();
+    final AccessSafely access = AccessSafely.afterCompleting(timers);
+    access.writingWith("lateness", (Integer delay, Long late) -> lateness.put(delay, late));
+    access.readingWith("lateness", () -> lateness);
+
+    final Scheduled<Integer> recorder = new Scheduled<Integer>() {
+      private final long start = System.nanoTime();
+      @Override
+      public void intervalSignal(final Scheduled<Integer> scheduled, final Integer delay) {
+        access.writeUsing("lateness", delay, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) - delay);
+      }
+    };
+
+    for (int timer = 0; timer < timers; ++timer) {
+      narrowScheduler.scheduleOnce(recorder, timer * 10, timer * 10, 0);
+    }
+
+    final Map<Integer,Long> recorded = access.readFrom("lateness");
+
+    assertEquals(timers, recorded.size());
+    for (final long late : recorded.values()) {
+      assertTrue(late >= 0);
+    }
+
+    narrowScheduler.close();
+  }
+
+  @Test
+  public void testCancelledTimerDoesNotFire() throws Exception {
+    final AtomicInteger fired = new AtomicInteger(0);
+
+    final Cancellable cancellable = scheduler.scheduleOnce((scheduled, data) -> fired.incrementAndGet(), null, 50L, 0L);
+
+    assertTrue(cancellable.cancel());
+    assertFalse(cancellable.cancel());
+
+    Thread.sleep(150);
+
+    assertEquals(0, fired.get());
+  }
+
+  @Test
+  public void testThatFailingScheduledIsLoggedAndOthersAreSignaled() {
+    final AtomicInteger logged = new AtomicInteger(0);
+    final TimingWheelScheduler loggingScheduler =
+            new TimingWheelScheduler("logging", 1, () -> { logged.incrementAndGet(); return Logger.noOpLogger(); });
+
+    final AccessSafely access = AccessSafely.afterCompleting(1);
+    final AtomicInteger counter = new AtomicInteger(0);
+    access.writingWith("counter", (Integer ignored) -> counter.incrementAndGet());
+    access.readingWith("counter", counter::get);
+
+    loggingScheduler.scheduleOnce((scheduled, data) -> { throw new IllegalStateException("Failed."); }, null, 0L, 1L);
+    loggingScheduler.scheduleOnce((scheduled, data) -> access.writeUsing("counter", 1), null, 10L, 1L);
+
+    assertEquals(1, (int) access.readFrom("counter"));
+    assertEquals(1, logged.get());
+
+    loggingScheduler.close();
+  }
+
+  @Test
+  public void testThatStageUsesTimingWheel() {
+    assertTrue(world.stage().scheduler() instanceof TimingWheelScheduler);
+
+    final FinalCountQuery query = world.actorFor(FinalCountQuery.class, OnceScheduled.class, 10);
+
+    final int count = query.queryCount().await();
+
+    assertEquals(10, count);
+  }
+
+  @Override
+  @Before
+  public void setUp() {
+    world = World.start("timing-wheel-scheduler", Configuration.define().usingSchedulerTick(1));
+
+    scheduler = new TimingWheelScheduler("test", 1);
+  }
+
+  @Override
+  @After
+  public void tearDown() {
+    scheduler.close();
+    world.terminate();
+  }
+}
@@ -12,7 +12,14 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
@@ -99,6 +106,35 @@ public class UUIDAddressTest {
     assertEquals(pingCount, pongCount);
   }
 
+  @Test
+  public void testThreadLocalUniqueness() throws Exception {
+    final AddressFactory addressFactory = new ThreadLocalUUIDAddressFactory();
+    final Set<Address> addresses = ConcurrentHashMap.newKeySet();
+    final int threads = 8;
+    final int perThread = 10_000;
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final List<Future<?>> futures = new ArrayList<>();
+    for (int thread = 0; thread < threads; ++thread) {
+      futures.add(executor.submit(() -> {
+        for (int idx = 0; idx < perThread; ++idx) {
+          addresses.add(addressFactory.uniqueWith("test-address"));
+        }
+      }));
+    }
+    for (final Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    assertEquals(threads * perThread, addresses.size());
+
+    final Address address = addressFactory.uniqueWith("test-address");
+    assertEquals("test-address", address.name());
+    assertEquals(4, address.<UUID>idTyped().version());
+    assertNotEquals(address, addressFactory.withHighId());
+  }
+
   @Before
   public void setUp() {
     final AddressFactory addressFactory =
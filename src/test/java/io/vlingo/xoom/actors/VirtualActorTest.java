@@ -0,0 +1,115 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.testkit.AccessSafely;
+import io.vlingo.xoom.common.Completes;
+
+public class VirtualActorTest extends ActorsTest {
+
+  @Test
+  public void testThatVirtualActorIsNotCreatedBeforeFirstMessage() {
+    final Address address = world.addressFactory().unique();
+    final Counter counter = world.stage().virtualActorFor(Counter.class, Definition.has(CounterActor.class, Definition.parameters(new Activations(1))), address);
+
+    assertNotNull(counter);
+    assertEquals(address, Proxy.from(counter).address());
+    assertFalse(world.stage().directory().isRegistered(address));
+  }
+
+  @Test
+  public void testThatVirtualActorIsCreatedOnFirstMessage() {
+    final Activations activations = new Activations(1);
+    final Address address = world.addressFactory().unique();
+    final Counter counter = world.stage().virtualActorFor(Counter.class, Definition.has(CounterActor.class, Definition.parameters(activations)), address);
+
+    final int count = counter.increment().await();
+
+    assertEquals(1, count);
+    assertEquals(1, activations.count());
+    assertTrue(world.stage().directory().isRegistered(address));
+  }
+
+  @Test
+  public void testThatVirtualActorIsReactivatedAfterPassivation() {
+    final Activations activations = new Activations(2);
+    final Address address = world.addressFactory().unique();
+    final Counter counter = world.stage().virtualActorFor(Counter.class, Definition.has(CounterActor.class, Definition.parameters(activations)), address);
+
+    assertEquals(1, (int) counter.increment().await());
+    assertEquals(2, (int) counter.increment().await());
+
+    assertTrue(world.stage().passivate(address));
+
+    for (int retries = 0; world.stage().directory().isRegistered(address) && retries < 100; ++retries) {
+      try { Thread.sleep(10L); } catch (Exception e) { }
+    }
+
+    assertFalse(world.stage().directory().isRegistered(address));
+
+    assertEquals(1, (int) counter.increment().await());
+    assertEquals(2, activations.count());
+  }
+
+  @Test
+  public void testThatVirtualActorsAreEqualByAddress() {
+    final Address address = world.addressFactory().unique();
+    final Definition definition = Definition.has(CounterActor.class, Definition.parameters(new Activations(1)));
+
+    final Counter counter1 = world.stage().virtualActorFor(Counter.class, definition, address);
+    final Counter counter2 = world.stage().virtualActorFor(Counter.class, definition, address);
+
+    assertEquals(counter1, counter2);
+    assertEquals(counter1.hashCode(), counter2.hashCode());
+  }
+
+  public static interface Counter {
+    Completes<Integer> increment();
+  }
+
+  public static class CounterActor extends Actor implements Counter {
+    private int count;
+
+    public CounterActor(final Activations activations) {
+      activations.activated();
+    }
+
+    @Override
+    public Completes<Integer> increment() {
+      return completes().with(++count);
+    }
+  }
+
+  public static class Activations {
+    private final AccessSafely access;
+    private final AtomicInteger count = new AtomicInteger(0);
+
+    public Activations(final int times) {
+      this.access = AccessSafely.afterCompleting(times)
+              .writingWith("count", (Integer ignored) -> count.incrementAndGet())
+              .readingWith("count", count::get);
+    }
+
+    void activated() {
+      access.writeUsing("count", 1);
+    }
+
+    int count() {
+      return access.readFrom("count");
+    }
+  }
+}
@@ -0,0 +1,128 @@
+// Copyright © 2012-2023 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.actors.plugin.completes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.Test;
+
+import io.vlingo.xoom.actors.Actor;
+import io.vlingo.xoom.actors.ActorsTest;
+import io.vlingo.xoom.actors.Address;
+import io.vlingo.xoom.actors.MockCompletes;
+import io.vlingo.xoom.actors.Returns;
+import io.vlingo.xoom.actors.plugin.PluginProperties;
+import io.vlingo.xoom.actors.plugin.completes.PooledCompletesPlugin.PooledCompletesPluginConfiguration;
+import io.vlingo.xoom.actors.testkit.AccessSafely;
+import io.vlingo.xoom.common.Completes;
+
+public class ShardedCompletesProviderTest extends ActorsTest {
+
+  @Test
+  public void testShardsArePowerOfTwo() {
+    assertEquals(1, ShardedCompletesEventuallyPool.shardsFor(1));
+    assertEquals(8, ShardedCompletesEventuallyPool.shardsFor(8));
+    assertEquals(16, ShardedCompletesEventuallyPool.shardsFor(10));
+
+    final int cores = ShardedCompletesEventuallyPool.shardsFor(0);
+    assertEquals(0, cores & (cores - 1));
+    assertTrue(cores >= Runtime.getRuntime().availableProcessors());
+  }
+
+  @Test
+  public void testSameSenderSameShard() {
+    final ShardedCompletesEventuallyPool pool = configureWorldWithShardedCompletes();
+
+    assertEquals(16, pool.shards());
+
+    for (int count = 0; count < 100; ++count) {
+      final Address address = world.addressFactory().unique();
+      final int shard = pool.shardOf(address);
+      assertTrue(shard >= 0 && shard < pool.shards());
+      assertEquals(shard, pool.shardOf(address));
+    }
+  }
+
+  @Test
+  public void testActuallyCompletesAndDrains() {
+    final ShardedCompletesEventuallyPool pool = configureWorldWithShardedCompletes();
+
+    final Address sender = world.addressFactory().unique();
+    final MockCompletes<Object> clientCompletes = new MockCompletes<>(1);
+
+    world.completesFor(sender, Returns.value(clientCompletes)).with(5);
+
+    assertEquals(1, clientCompletes.getWithCount());
+    assertEquals(5, clientCompletes.outcome());
+    assertEquals(0, pool.depthOf(pool.shardOf(sender)));
+  }
+
+  @Test
+  public void testShardedOutcomesKeepOrder() {
+    configureWorldWithShardedCompletes();
+
+    final int total = 1_000;
+    final List<Integer> sequence = new ArrayList<>(total);
+    final AccessSafely access = AccessSafely.afterCompleting(total);
+    access.writingWith("next", (Integer next) -> sequence.add(next));
+    access.readingWith("sequence", () -> sequence);
+
+    final Sequencer sequencer = world.actorFor(Sequencer.class, SequencerActor.class);
+
+    for (int count = 0; count < total; ++count) {
+      sequencer.next().andThenConsume((Integer next) -> access.writeUsing("next", next));
+    }
+
+    final List<Integer> completed = access.readFrom("sequence");
+
+    assertEquals(total, completed.size());
+    for (int index = 0; index < total; ++index) {
+      assertEquals(index + 1, completed.get(index).intValue());
+    }
+  }
+
+  private ShardedCompletesEventuallyPool configureWorldWithShardedCompletes() {
+    final Properties properties = new Properties();
+
+    properties.setProperty("plugin.name.pooledCompletes", "true");
+    properties.setProperty("plugin.pooledCompletes.classname", "io.vlingo.xoom.actors.plugin.completes.PooledCompletesPlugin");
+    properties.setProperty("plugin.pooledCompletes.pool", "10");
+    properties.setProperty("plugin.pooledCompletes.sharded", "true");
+
+    final PluginProperties pluginProperties = new PluginProperties("pooledCompletes", properties);
+
+    final PooledCompletesPlugin plugin = new PooledCompletesPlugin();
+    plugin.configuration().buildWith(world.configuration(), pluginProperties);
+
+    final PooledCompletesPluginConfiguration configuration = (PooledCompletesPluginConfiguration) plugin.configuration();
+    assertTrue(configuration.isSharded());
+
+    final ShardedCompletesEventuallyPool pool = new ShardedCompletesEventuallyPool(configuration.poolSize(), configuration.mailbox());
+    world.register(configuration.name(), pool);
+
+    return pool;
+  }
+
+  public static interface Sequencer {
+    Completes<Integer> next();
+  }
+
+  public static class SequencerActor extends Actor implements Sequencer {
+    private int current;
+
+    @Override
+    public Completes<Integer> next() {
+      return completes().with(++current);
+    }
+  }
+}
@@ -63,6 +63,33 @@ public class ConcurrentQueueMailboxTest extends ActorsTest {
       assertFalse(mailbox.isSuspended());
   }
 
+  @Test
+  public void testThatPendingMessagesAreCounted() {
+    final TestResults testResults = new TestResults(0);
+    final CountTakerActor actor = new CountTakerActor(testResults);
+
+    // while suspended messages are only queued
+    mailbox.suspendExceptFor("paused#", CountTakerActor.class);
+
+    for (int count = 0; count < 100; ++count) {
+      final int countParam = count;
+      final SerializableConsumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(countParam);
+      mailbox.send(new LocalMessage<CountTaker>(actor, CountTaker.class, consumer, "take(int)"));
+    }
+
+    assertEquals(100, mailbox.pendingMessages());
+
+    for (int count = 0; count < 40; ++count) {
+      mailbox.receive();
+    }
+
+    assertEquals(60, mailbox.pendingMessages());
+
+    mailbox.close();
+
+    assertEquals(0, mailbox.pendingMessages());
+  }
+
   @Before
   @Override
   public void setUp() throws Exception {